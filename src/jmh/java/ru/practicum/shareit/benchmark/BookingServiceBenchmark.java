@@ -0,0 +1,56 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.dto.BookingResponse;
+import ru.practicum.shareit.booking.dto.CreateBookingRequest;
+import ru.practicum.shareit.booking.model.BookingState;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class BookingServiceBenchmark {
+
+    private final AtomicLong slot = new AtomicLong();
+    private final LocalDateTime horizon = LocalDateTime.now().plusYears(10);
+
+    @Param({"ALL", "CURRENT", "PAST", "FUTURE", "WAITING", "REJECTED"})
+    public BookingState state;
+
+    @Benchmark
+    public List<BookingResponse> getOwnerBookings(ShareItDataset dataset) {
+        return dataset.bookingService.getOwnerBookings(ThreadLocalRandom.current().nextInt(dataset.users) + 1, state);
+    }
+
+    @Benchmark
+    public BookingResponse createBooking(ShareItDataset dataset) {
+        int itemId = ThreadLocalRandom.current().nextInt(dataset.itemCount()) + 1;
+        if (itemId % 5 == 0) {
+            itemId--;
+        }
+        LocalDateTime start = horizon.plusHours(slot.getAndIncrement());
+        CreateBookingRequest request = CreateBookingRequest.builder()
+                .itemId(itemId)
+                .start(start)
+                .end(start.plusMinutes(30))
+                .build();
+        return dataset.bookingService.createBooking(dataset.bookerOf(itemId), request);
+    }
+}
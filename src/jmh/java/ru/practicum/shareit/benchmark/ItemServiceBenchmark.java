@@ -0,0 +1,40 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.item.dto.GetItemResponse;
+import ru.practicum.shareit.item.dto.ItemResponse;
+import ru.practicum.shareit.item.dto.ItemSummaryResponse;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ItemServiceBenchmark {
+
+    @Benchmark
+    public List<ItemResponse> searchItems(ShareItDataset dataset) {
+        String[] terms = ShareItDataset.TERMS;
+        return dataset.itemService.searchItems(terms[ThreadLocalRandom.current().nextInt(terms.length)]);
+    }
+
+    @Benchmark
+    public List<GetItemResponse> getAllItemsByOwner(ShareItDataset dataset) {
+        return dataset.itemService.getAllItemsByOwner(ThreadLocalRandom.current().nextInt(dataset.users) + 1);
+    }
+
+    @Benchmark
+    public List<ItemSummaryResponse> getOwnerSummary(ShareItDataset dataset) {
+        return dataset.itemService.getOwnerSummary(ThreadLocalRandom.current().nextInt(dataset.users) + 1);
+    }
+}
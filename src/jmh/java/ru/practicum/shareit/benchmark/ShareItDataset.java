@@ -0,0 +1,138 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.ShareItApp;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.booking.timeline.ItemBookingTimeline;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
+import ru.practicum.shareit.item.service.ItemService;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Boots the application on the H2 {@code test} profile and seeds a synthetic dataset of
+ * users x items x bookings x comments. Sizes are JMH parameters, e.g. {@code -p users=1000}.
+ */
+@State(Scope.Benchmark)
+public class ShareItDataset {
+
+    static final String[] TERMS = {"drill", "ladder", "saw", "tent", "bike", "kayak", "camera", "mixer"};
+
+    private static final int BATCH_SIZE = 1000;
+    private static final String[] QUIET_LOGGING = {
+            "--logging.level.root=WARN",
+            "--logging.level.org.springframework.transaction.interceptor=WARN",
+            "--logging.level.org.springframework.orm.jpa.JpaTransactionManager=WARN"
+    };
+
+    @Param("100")
+    public int users;
+
+    @Param("10")
+    public int itemsPerUser;
+
+    @Param("20")
+    public int bookingsPerItem;
+
+    @Param("5")
+    public int commentsPerItem;
+
+    ConfigurableApplicationContext context;
+    ItemService itemService;
+    BookingService bookingService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SpringApplication application = new SpringApplication(ShareItApp.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        application.setAdditionalProfiles("test");
+        context = application.run(QUIET_LOGGING);
+
+        seed(context.getBean(JdbcTemplate.class));
+        context.getBean(ItemSearchIndex.class).afterSingletonsInstantiated();
+        context.getBean(ItemBookingTimeline.class).afterSingletonsInstantiated();
+
+        itemService = context.getBean(ItemService.class);
+        bookingService = context.getBean(BookingService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    int itemCount() {
+        return users * itemsPerUser;
+    }
+
+    int ownerOf(int itemId) {
+        return (itemId - 1) / itemsPerUser + 1;
+    }
+
+    int bookerOf(int itemId) {
+        return ownerOf(itemId) % users + 1;
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int user = 1; user <= users; user++) {
+            rows.add(new Object[]{user, "user" + user, "user" + user + "@bench.ru"});
+        }
+        insert(jdbcTemplate, "INSERT INTO users (id, name, email) VALUES (?, ?, ?)", rows);
+
+        for (int item = 1; item <= itemCount(); item++) {
+            String term = TERMS[item % TERMS.length];
+            rows.add(new Object[]{item, term + " " + item, "Rent a " + term + " number " + item, item % 5 != 0,
+                    ownerOf(item)});
+        }
+        insert(jdbcTemplate, "INSERT INTO items (id, name, description, available, owner_id) VALUES (?, ?, ?, ?, ?)",
+                rows);
+
+        LocalDateTime now = LocalDateTime.now();
+        String[] statuses = {"APPROVED", "WAITING", "REJECTED", "CANCELED"};
+        int bookingId = 1;
+        for (int item = 1; item <= itemCount(); item++) {
+            for (int booking = 0; booking < bookingsPerItem; booking++) {
+                LocalDateTime start = now.plusDays(booking - bookingsPerItem / 2).minusHours(6);
+                rows.add(new Object[]{bookingId++, item, bookerOf(item), statuses[booking % statuses.length],
+                        Timestamp.valueOf(start), Timestamp.valueOf(start.plusHours(12))});
+            }
+        }
+        insert(jdbcTemplate, "INSERT INTO bookings (id, item_id, booker_id, status, start_date, end_date) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", rows);
+
+        int commentId = 1;
+        for (int item = 1; item <= itemCount(); item++) {
+            for (int comment = 0; comment < commentsPerItem; comment++) {
+                rows.add(new Object[]{commentId++, "Comment " + comment + " on item " + item, item, bookerOf(item),
+                        Timestamp.valueOf(now.minusDays(comment))});
+            }
+        }
+        insert(jdbcTemplate, "INSERT INTO comments (id, text, item_id, author_id, created) VALUES (?, ?, ?, ?, ?)",
+                rows);
+
+        for (String table : List.of("users", "items", "bookings", "comments")) {
+            Integer next = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table, Integer.class);
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+        }
+    }
+
+    private static void insert(JdbcTemplate jdbcTemplate, String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+        rows.clear();
+    }
+}
@@ -1,20 +1,27 @@
 package ru.practicum.shareit.booking.controller;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.practicum.shareit.booking.dto.BatchApprovalRequest;
+import ru.practicum.shareit.booking.dto.BookingApprovalResult;
 import ru.practicum.shareit.booking.dto.BookingResponse;
 import ru.practicum.shareit.booking.dto.CreateBookingRequest;
+import ru.practicum.shareit.booking.dto.NormalizedBookingsResponse;
+import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.util.KeysetCursor;
 
 import java.util.List;
 
-@Slf4j
 @Validated
 @RequiredArgsConstructor
 @RestController
@@ -23,15 +30,15 @@ public class BookingController {
 
     private final BookingService bookingService;
     private static final String USER_ID_HEADER = "X-Sharer-User-Id";
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 1000;
 
     @PostMapping
     public BookingResponse createBooking(
             @NotNull @Positive @RequestHeader(USER_ID_HEADER) Integer bookerId,
             @Valid @RequestBody CreateBookingRequest request) {
-        log.info("Received create booking request: {} by booker ID: {}", request, bookerId);
-        BookingResponse response = bookingService.createBooking(bookerId, request);
-        log.debug("Returning create booking response: {}", response);
-        return response;
+        return bookingService.createBooking(bookerId, request);
     }
 
     @PatchMapping("/{bookingId}")
@@ -39,39 +46,110 @@ public class BookingController {
             @NotNull @Positive @RequestHeader(USER_ID_HEADER) Integer ownerId,
             @NotNull @Positive @PathVariable Integer bookingId,
             @NotNull @RequestParam Boolean approved) {
-        log.info("Received approve booking request by owner ID: {} for booking ID: {}", ownerId, bookingId);
-        BookingResponse response = bookingService.approveBooking(ownerId, bookingId, approved);
-        log.debug("Returning approve booking response: {}", response);
-        return response;
+        return bookingService.approveBooking(ownerId, bookingId, approved);
+    }
+
+    @PatchMapping("/batch")
+    public List<BookingApprovalResult> approveBookings(
+            @NotNull @Positive @RequestHeader(USER_ID_HEADER) Integer ownerId,
+            @Valid @RequestBody BatchApprovalRequest request) {
+        return bookingService.approveBookings(ownerId, request.getApprovals());
     }
 
     @GetMapping("/{bookingId}")
     public BookingResponse getBooking(
             @NotNull @Positive @RequestHeader(USER_ID_HEADER) Integer userId,
             @NotNull @Positive @PathVariable Integer bookingId) {
-        log.info("Received get booking request by user ID: {} for booking ID: {}", userId, bookingId);
-        BookingResponse response = bookingService.getBooking(userId, bookingId);
-        log.debug("Returning booking response: {}", response);
-        return response;
+        return bookingService.getBooking(userId, bookingId);
     }
 
     @GetMapping
-    public List<BookingResponse> getUserBookings(
+    public ResponseEntity<List<BookingResponse>> getUserBookings(
+            @NotNull @Positive @RequestHeader(USER_ID_HEADER) Integer userId,
+            @RequestParam(defaultValue = "ALL") BookingState state,
+            @RequestParam(required = false) String cursor,
+            @Positive @Max(MAX_PAGE_SIZE) @RequestParam(required = false) Integer size) {
+        List<BookingResponse> response = isPaged(cursor, size)
+                ? bookingService.getUserBookings(userId, state, KeysetCursor.decode(cursor), pageSize(size))
+                : bookingService.getUserBookings(userId, state);
+        return withNextCursor(response, isPaged(cursor, size) ? pageSize(size) : null);
+    }
+
+    @GetMapping(produces = NormalizedBookingsResponse.MEDIA_TYPE)
+    public ResponseEntity<NormalizedBookingsResponse> getNormalizedUserBookings(
+            @NotNull @Positive @RequestHeader(USER_ID_HEADER) Integer userId,
+            @RequestParam(defaultValue = "ALL") BookingState state,
+            @RequestParam(required = false) String cursor,
+            @Positive @Max(MAX_PAGE_SIZE) @RequestParam(required = false) Integer size) {
+        return normalized(getUserBookings(userId, state, cursor, size));
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamUserBookings(
             @NotNull @Positive @RequestHeader(USER_ID_HEADER) Integer userId,
             @RequestParam(defaultValue = "ALL") BookingState state) {
-        log.info("Received get user bookings request by user ID: {} with state: {}", userId, state);
-        List<BookingResponse> response = bookingService.getUserBookings(userId, state);
-        log.debug("Returning {} bookings for user ID: {}", response.size(), userId);
-        return response;
+        return ndjson(bookingService.streamUserBookings(userId, state));
     }
 
     @GetMapping("/owner")
-    public List<BookingResponse> getOwnerBookings(
+    public ResponseEntity<List<BookingResponse>> getOwnerBookings(
+            @NotNull @Positive @RequestHeader(USER_ID_HEADER) Integer ownerId,
+            @RequestParam(defaultValue = "ALL") BookingState state,
+            @RequestParam(required = false) String cursor,
+            @Positive @Max(MAX_PAGE_SIZE) @RequestParam(required = false) Integer size) {
+        List<BookingResponse> response = isPaged(cursor, size)
+                ? bookingService.getOwnerBookings(ownerId, state, KeysetCursor.decode(cursor), pageSize(size))
+                : bookingService.getOwnerBookings(ownerId, state);
+        return withNextCursor(response, isPaged(cursor, size) ? pageSize(size) : null);
+    }
+
+    @GetMapping(path = "/owner", produces = NormalizedBookingsResponse.MEDIA_TYPE)
+    public ResponseEntity<NormalizedBookingsResponse> getNormalizedOwnerBookings(
+            @NotNull @Positive @RequestHeader(USER_ID_HEADER) Integer ownerId,
+            @RequestParam(defaultValue = "ALL") BookingState state,
+            @RequestParam(required = false) String cursor,
+            @Positive @Max(MAX_PAGE_SIZE) @RequestParam(required = false) Integer size) {
+        return normalized(getOwnerBookings(ownerId, state, cursor, size));
+    }
+
+    @GetMapping(path = "/owner", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamOwnerBookings(
             @NotNull @Positive @RequestHeader(USER_ID_HEADER) Integer ownerId,
             @RequestParam(defaultValue = "ALL") BookingState state) {
-        log.info("Received get owner bookings request by owner ID: {} with state: {}", ownerId, state);
-        List<BookingResponse> response = bookingService.getOwnerBookings(ownerId, state);
-        log.debug("Returning {} bookings for owner ID: {}", response.size(), ownerId);
-        return response;
+        return ndjson(bookingService.streamOwnerBookings(ownerId, state));
+    }
+
+    private static boolean isPaged(String cursor, Integer size) {
+        return cursor != null || size != null;
+    }
+
+    private static int pageSize(Integer size) {
+        return size != null ? size : DEFAULT_PAGE_SIZE;
+    }
+
+    private static ResponseEntity<List<BookingResponse>> withNextCursor(List<BookingResponse> page, Integer size) {
+        if (size == null || page.size() < size) {
+            return ResponseEntity.ok(page);
+        }
+        return ResponseEntity.ok()
+                .header(NEXT_CURSOR_HEADER, nextCursor(page).encode())
+                .body(page);
+    }
+
+    private static ResponseEntity<NormalizedBookingsResponse> normalized(ResponseEntity<List<BookingResponse>> page) {
+        return ResponseEntity.ok()
+                .headers(page.getHeaders())
+                .body(BookingMapper.mapToNormalizedBookings(page.getBody()));
+    }
+
+    private static KeysetCursor nextCursor(List<BookingResponse> page) {
+        BookingResponse last = page.getLast();
+        return new KeysetCursor(last.getStart(), last.getId());
+    }
+
+    private static ResponseEntity<StreamingResponseBody> ndjson(StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 }
@@ -0,0 +1,18 @@
+package ru.practicum.shareit.booking.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class BookingApproval {
+
+    @NotNull(message = "Booking ID cannot be empty")
+    @Positive(message = "Booking ID must be positive")
+    private Integer bookingId;
+
+    @NotNull(message = "Approved flag cannot be empty")
+    private Boolean approved;
+}
@@ -0,0 +1,12 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class BookingApprovalResult {
+    private Integer bookingId;
+    private BookingResponse booking;
+    private String errorMessage;
+}
@@ -0,0 +1,22 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.Builder;
+import lombok.Data;
+import ru.practicum.shareit.item.dto.ItemResponse;
+import ru.practicum.shareit.user.dto.UserResponse;
+
+import java.util.List;
+
+/**
+ * Booking list where each booker and item is sent once and bookings refer to them by id.
+ */
+@Data
+@Builder
+public class NormalizedBookingsResponse {
+
+    public static final String MEDIA_TYPE = "application/vnd.shareit.bookings+json";
+
+    private List<BookingRef> bookings;
+    private List<UserResponse> users;
+    private List<ItemResponse> items;
+}
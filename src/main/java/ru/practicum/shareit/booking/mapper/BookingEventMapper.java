@@ -0,0 +1,41 @@
+package ru.practicum.shareit.booking.mapper;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.outbox.BookingEvent;
+import ru.practicum.shareit.booking.outbox.BookingEventType;
+import ru.practicum.shareit.booking.outbox.BookingOutboxEntry;
+
+import java.time.LocalDateTime;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BookingEventMapper {
+
+    public static BookingOutboxEntry mapToOutboxEntry(BookingEventType type, Booking booking, LocalDateTime now) {
+        return BookingOutboxEntry.builder()
+                .type(type)
+                .bookingId(booking.getId())
+                .itemId(booking.getItem().getId())
+                .bookerId(booking.getBooker().getId())
+                .status(booking.getStatus())
+                .start(booking.getStart())
+                .end(booking.getEnd())
+                .createdAt(now)
+                .build();
+    }
+
+    public static BookingEvent mapToBookingEvent(BookingOutboxEntry entry) {
+        return BookingEvent.builder()
+                .id(entry.getId())
+                .type(entry.getType())
+                .bookingId(entry.getBookingId())
+                .itemId(entry.getItemId())
+                .bookerId(entry.getBookerId())
+                .status(entry.getStatus())
+                .start(entry.getStart())
+                .end(entry.getEnd())
+                .occurredAt(entry.getCreatedAt())
+                .build();
+    }
+}
@@ -2,14 +2,23 @@ package ru.practicum.shareit.booking.mapper;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import ru.practicum.shareit.booking.dto.BookingApprovalResult;
+import ru.practicum.shareit.booking.dto.BookingRef;
 import ru.practicum.shareit.booking.dto.BookingResponse;
+import ru.practicum.shareit.booking.dto.BookingView;
 import ru.practicum.shareit.booking.dto.CreateBookingRequest;
+import ru.practicum.shareit.booking.dto.NormalizedBookingsResponse;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.item.dto.ItemResponse;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.dto.UserResponse;
 import ru.practicum.shareit.user.model.User;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class BookingMapper {
 
@@ -33,6 +42,63 @@ public final class BookingMapper {
                 .build();
     }
 
+    public static BookingApprovalResult mapToApprovalResult(Booking booking) {
+        return BookingApprovalResult.builder()
+                .bookingId(booking.getId())
+                .booking(mapToBookingResponse(booking))
+                .build();
+    }
+
+    public static BookingApprovalResult mapToApprovalResult(Integer bookingId, String errorMessage) {
+        return BookingApprovalResult.builder()
+                .bookingId(bookingId)
+                .errorMessage(errorMessage)
+                .build();
+    }
+
+    public static BookingResponse mapToBookingResponse(BookingView view) {
+        return BookingResponse.builder()
+                .id(view.getId())
+                .start(view.getStart())
+                .end(view.getEnd())
+                .status(view.getStatus())
+                .booker(UserResponse.builder()
+                        .id(view.getBookerId())
+                        .name(view.getBookerName())
+                        .email(view.getBookerEmail())
+                        .build())
+                .item(ItemResponse.builder()
+                        .id(view.getItemId())
+                        .name(view.getItemName())
+                        .description(view.getItemDescription())
+                        .available(view.getItemAvailable())
+                        .build())
+                .build();
+    }
+
+    public static NormalizedBookingsResponse mapToNormalizedBookings(List<BookingResponse> bookings) {
+        List<BookingRef> refs = new ArrayList<>(bookings.size());
+        Map<Integer, UserResponse> users = new LinkedHashMap<>();
+        Map<Integer, ItemResponse> items = new LinkedHashMap<>();
+        for (BookingResponse booking : bookings) {
+            users.putIfAbsent(booking.getBooker().getId(), booking.getBooker());
+            items.putIfAbsent(booking.getItem().getId(), booking.getItem());
+            refs.add(BookingRef.builder()
+                    .id(booking.getId())
+                    .start(booking.getStart())
+                    .end(booking.getEnd())
+                    .status(booking.getStatus())
+                    .bookerId(booking.getBooker().getId())
+                    .itemId(booking.getItem().getId())
+                    .build());
+        }
+        return NormalizedBookingsResponse.builder()
+                .bookings(refs)
+                .users(List.copyOf(users.values()))
+                .items(List.copyOf(items.values()))
+                .build();
+    }
+
     private static UserResponse mapToUserResponse(User user) {
         return UserResponse.builder()
                 .id(user.getId())
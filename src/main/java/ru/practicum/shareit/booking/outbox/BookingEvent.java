@@ -0,0 +1,28 @@
+package ru.practicum.shareit.booking.outbox;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import ru.practicum.shareit.booking.model.BookingStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Booking state change as delivered to {@link BookingEventListener}s. Changes of one item
+ * are serialized by the item lock, so their ids grow in commit order and listeners may use
+ * the id to skip redelivered events.
+ */
+@Getter
+@Builder
+@ToString
+public class BookingEvent {
+    private final Long id;
+    private final BookingEventType type;
+    private final Integer bookingId;
+    private final Integer itemId;
+    private final Integer bookerId;
+    private final BookingStatus status;
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+    private final LocalDateTime occurredAt;
+}
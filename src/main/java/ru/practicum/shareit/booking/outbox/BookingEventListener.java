@@ -0,0 +1,11 @@
+package ru.practicum.shareit.booking.outbox;
+
+/**
+ * Receives booking events from the outbox. Events of one item arrive in order, but the
+ * same event may be delivered more than once, so handling has to be idempotent. Throwing
+ * stops delivery for the item until the event is retried on the next poll.
+ */
+public interface BookingEventListener {
+
+    void onBookingEvent(BookingEvent event);
+}
@@ -0,0 +1,8 @@
+package ru.practicum.shareit.booking.outbox;
+
+public enum BookingEventType {
+    CREATED,
+    APPROVED,
+    REJECTED,
+    IMPORTED
+}
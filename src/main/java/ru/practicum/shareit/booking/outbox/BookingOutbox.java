@@ -0,0 +1,51 @@
+package ru.practicum.shareit.booking.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.mapper.BookingEventMapper;
+import ru.practicum.shareit.booking.model.Booking;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Writes booking events into the outbox table. Must run inside the transaction that
+ * changes the booking, so an event exists if and only if the change is committed.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingOutbox {
+
+    private static final String INSERT_SQL = "INSERT INTO booking_outbox " +
+            "(event_type, booking_id, item_id, booker_id, status, start_date, end_date, created_at, attempts) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private final BookingOutboxRepository outboxRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(BookingEventType type, Booking booking) {
+        outboxRepository.save(BookingEventMapper.mapToOutboxEntry(type, booking, LocalDateTime.now(clock)));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(BookingEventType type, List<Booking> bookings) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now(clock));
+        jdbcTemplate.batchUpdate(INSERT_SQL, bookings, bookings.size(), (ps, booking) -> {
+            ps.setString(1, type.name());
+            ps.setInt(2, booking.getId());
+            ps.setInt(3, booking.getItem().getId());
+            ps.setInt(4, booking.getBooker().getId());
+            ps.setString(5, booking.getStatus().name());
+            ps.setTimestamp(6, Timestamp.valueOf(booking.getStart()));
+            ps.setTimestamp(7, Timestamp.valueOf(booking.getEnd()));
+            ps.setTimestamp(8, now);
+        });
+    }
+}
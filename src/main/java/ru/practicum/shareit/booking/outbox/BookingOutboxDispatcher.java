@@ -0,0 +1,119 @@
+package ru.practicum.shareit.booking.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.mapper.BookingEventMapper;
+import ru.practicum.shareit.config.BookingOutboxProperties;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Drains the booking outbox in id order and hands every event to all
+ * {@link BookingEventListener}s on the polling thread. An event is marked dispatched only
+ * after every listener accepted it (at-least-once). A failed event blocks the later events
+ * of its item until it is retried, which keeps per-item order; after {@code maxAttempts}
+ * it is given up so the item can move on. The next batch is read only when the previous
+ * one is delivered, so slow listeners throttle the drain instead of piling events in memory.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class BookingOutboxDispatcher {
+
+    private static final String DISPATCHED_METRIC = "shareit.booking.outbox.dispatched";
+
+    private final BookingOutboxRepository outboxRepository;
+    private final ObjectProvider<BookingEventListener> listeners;
+    private final TransactionTemplate transactionTemplate;
+    private final BookingOutboxProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final Map<String, Counter> outcomeCounters = new ConcurrentHashMap<>();
+
+    public void dispatch() {
+        for (int batch = 0; batch < properties.getMaxBatchesPerPoll(); batch++) {
+            List<BookingOutboxEntry> entries = transactionTemplate.execute(status ->
+                    outboxRepository.findByDispatchedAtIsNullOrderByIdAsc(Limit.of(properties.getBatchSize())));
+            if (entries == null || entries.isEmpty()) {
+                return;
+            }
+            boolean blocked = deliver(entries);
+            if (blocked || entries.size() < properties.getBatchSize()) {
+                return;
+            }
+        }
+    }
+
+    public void purge() {
+        LocalDateTime before = LocalDateTime.now(clock).minus(properties.getRetention());
+        Integer removed = transactionTemplate.execute(status -> outboxRepository.deleteDispatchedBefore(before));
+        log.debug("Removed {} dispatched booking events older than {}", removed, before);
+    }
+
+    private boolean deliver(List<BookingOutboxEntry> entries) {
+        List<BookingEventListener> targets = listeners.orderedStream().toList();
+        Set<Integer> blockedItems = new HashSet<>();
+        List<Long> dispatched = new ArrayList<>();
+        List<Long> failed = new ArrayList<>();
+
+        for (BookingOutboxEntry entry : entries) {
+            if (blockedItems.contains(entry.getItemId())) {
+                continue;
+            }
+            if (publish(entry, targets)) {
+                dispatched.add(entry.getId());
+                count("delivered");
+            } else if (entry.getAttempts() + 1 >= properties.getMaxAttempts()) {
+                log.error("Giving up booking event {} for item {} after {} attempts",
+                        entry.getId(), entry.getItemId(), entry.getAttempts() + 1);
+                dispatched.add(entry.getId());
+                count("abandoned");
+            } else {
+                failed.add(entry.getId());
+                blockedItems.add(entry.getItemId());
+                count("failed");
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!dispatched.isEmpty()) {
+                outboxRepository.markDispatched(dispatched, now);
+            }
+            if (!failed.isEmpty()) {
+                outboxRepository.incrementAttempts(failed);
+            }
+        });
+        return !failed.isEmpty();
+    }
+
+    private boolean publish(BookingOutboxEntry entry, List<BookingEventListener> targets) {
+        BookingEvent event = BookingEventMapper.mapToBookingEvent(entry);
+        try {
+            for (BookingEventListener listener : targets) {
+                listener.onBookingEvent(event);
+            }
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Booking event {} for item {} was not delivered, attempt {}",
+                    entry.getId(), entry.getItemId(), entry.getAttempts() + 1, e);
+            return false;
+        }
+    }
+
+    private void count(String outcome) {
+        outcomeCounters.computeIfAbsent(outcome, key -> meterRegistry.counter(DISPATCHED_METRIC, "outcome", key))
+                .increment();
+    }
+}
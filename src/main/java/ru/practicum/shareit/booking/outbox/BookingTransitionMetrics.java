@@ -0,0 +1,62 @@
+package ru.practicum.shareit.booking.outbox;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.model.BookingStatus;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Counts booking status transitions from the outbox, so every committed change is counted
+ * once by the dispatching instance, whichever instance made it. Redelivered events are
+ * skipped by the per-item high-water mark of event ids. Redelivery follows a failed dispatch
+ * within minutes, so marks of items without events for an hour are dropped, and at most
+ * {@code MAX_TRACKED_ITEMS} are kept.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingTransitionMetrics implements BookingEventListener {
+
+    private static final String TRANSITIONS_METRIC = "shareit.booking.transitions";
+    private static final Duration MARK_RETENTION = Duration.ofHours(1);
+    private static final long MAX_TRACKED_ITEMS = 100_000;
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Integer, Long> lastEventByItem = Caffeine.newBuilder()
+            .expireAfterAccess(MARK_RETENTION)
+            .maximumSize(MAX_TRACKED_ITEMS)
+            .<Integer, Long>build()
+            .asMap();
+
+    @Override
+    public void onBookingEvent(BookingEvent event) {
+        if (!advance(event)) {
+            return;
+        }
+        String from = previousStatus(event.getType());
+        BookingStatus to = event.getStatus();
+        counters.computeIfAbsent(from + ">" + to.name(),
+                key -> meterRegistry.counter(TRANSITIONS_METRIC, "from", from, "to", to.name())).increment();
+    }
+
+    private boolean advance(BookingEvent event) {
+        Long previous = lastEventByItem.putIfAbsent(event.getItemId(), event.getId());
+        return previous == null
+                || previous < event.getId() && lastEventByItem.replace(event.getItemId(), previous, event.getId());
+    }
+
+    private static String previousStatus(BookingEventType type) {
+        return switch (type) {
+            case CREATED -> "NEW";
+            case APPROVED, REJECTED -> BookingStatus.WAITING.name();
+            case IMPORTED -> "IMPORTED";
+        };
+    }
+}
@@ -0,0 +1,22 @@
+package ru.practicum.shareit.booking.repository;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.domain.Limit;
+import ru.practicum.shareit.booking.model.BookingRole;
+import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.util.KeysetCursor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class BookingQuery {
+    private final BookingRole role;
+    private final Integer userId;
+    private final BookingState state;
+    private final LocalDateTime now;
+    private final KeysetCursor after;
+    @Builder.Default
+    private final Limit limit = Limit.unlimited();
+}
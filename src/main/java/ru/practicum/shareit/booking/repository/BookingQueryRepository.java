@@ -0,0 +1,17 @@
+package ru.practicum.shareit.booking.repository;
+
+import ru.practicum.shareit.booking.dto.BookingView;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface BookingQueryRepository {
+
+    List<BookingView> findBookings(BookingQuery query);
+
+    /**
+     * Same rows as {@link #findBookings}, read through a database cursor. Must be consumed and
+     * closed inside a transaction.
+     */
+    Stream<BookingView> streamBookings(BookingQuery query, int fetchSize);
+}
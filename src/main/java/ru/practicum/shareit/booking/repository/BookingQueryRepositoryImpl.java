@@ -0,0 +1,123 @@
+package ru.practicum.shareit.booking.repository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import ru.practicum.shareit.booking.dto.BookingView;
+import ru.practicum.shareit.booking.model.BookingRole;
+import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.util.KeysetCursor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Booking lists for every role and state. Each (role, state, cursor) shape maps to one fixed
+ * JPQL string with all values bound as parameters, so Hibernate parses and plans every shape
+ * once and serves later calls from its query plan cache.
+ *
+ * <p>Every state, ALL included, is ordered by start descending. ALL is deliberately not
+ * grouped into current, future and past buckets: the (start, id) keyset cursor and the
+ * (user, start DESC, id DESC) indexes rely on that single order, and a bucket order would
+ * need a computed sort key that no index can serve, turning every page into a sort of the
+ * user's whole history. Start descending already lists future bookings first; current and
+ * past ones follow, interleaved by start.
+ */
+public class BookingQueryRepositoryImpl implements BookingQueryRepository {
+
+    private static final String SELECT = "SELECT new ru.practicum.shareit.booking.dto.BookingView(" +
+            "b.id, b.start, b.end, b.status, u.id, u.name, u.email, " +
+            "i.id, i.name, i.description, i.available) " +
+            "FROM Booking b JOIN b.item i JOIN b.booker u ";
+
+    private static final Map<Shape, String> STATEMENTS = new ConcurrentHashMap<>();
+
+    private final Map<TimerKey, Timer> queryTimers = new HashMap<>();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public BookingQueryRepositoryImpl(MeterRegistry meterRegistry) {
+        for (BookingRole role : BookingRole.values()) {
+            for (BookingState state : BookingState.values()) {
+                for (boolean paged : new boolean[]{false, true}) {
+                    queryTimers.put(new TimerKey(role, state, paged), Timer.builder("shareit.booking.query")
+                            .description("Booking list queries by role and state")
+                            .tag("role", role.name())
+                            .tag("state", state.name())
+                            .tag("paged", String.valueOf(paged))
+                            .publishPercentileHistogram()
+                            .register(meterRegistry));
+                }
+            }
+        }
+    }
+
+    @Override
+    public List<BookingView> findBookings(BookingQuery query) {
+        TypedQuery<BookingView> typedQuery = typedQuery(query);
+        return queryTimers.get(new TimerKey(query.getRole(), query.getState(), query.getLimit().isLimited()))
+                .record(typedQuery::getResultList);
+    }
+
+    @Override
+    public Stream<BookingView> streamBookings(BookingQuery query, int fetchSize) {
+        return typedQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+
+    private TypedQuery<BookingView> typedQuery(BookingQuery query) {
+        KeysetCursor after = query.getAfter();
+        Shape shape = new Shape(query.getRole(), query.getState(), after != null);
+
+        TypedQuery<BookingView> typedQuery = entityManager.createQuery(
+                STATEMENTS.computeIfAbsent(shape, BookingQueryRepositoryImpl::statement), BookingView.class);
+        typedQuery.setParameter("userId", query.getUserId());
+        switch (query.getState()) {
+            case CURRENT, PAST, FUTURE -> typedQuery.setParameter("now", query.getNow());
+            case WAITING -> typedQuery.setParameter("status", BookingStatus.WAITING);
+            case REJECTED -> typedQuery.setParameter("status", BookingStatus.REJECTED);
+            default -> {
+            }
+        }
+        if (after != null) {
+            typedQuery.setParameter("afterStart", after.getTimestamp());
+            typedQuery.setParameter("afterId", after.getId());
+        }
+        if (query.getLimit().isLimited()) {
+            typedQuery.setMaxResults(query.getLimit().max());
+        }
+        return typedQuery;
+    }
+
+    private static String statement(Shape shape) {
+        StringBuilder jpql = new StringBuilder(SELECT)
+                .append(shape.role() == BookingRole.OWNER ? "WHERE i.owner.id = :userId" : "WHERE u.id = :userId");
+        switch (shape.state()) {
+            case CURRENT -> jpql.append(" AND b.start <= :now AND b.end >= :now");
+            case PAST -> jpql.append(" AND b.end < :now");
+            case FUTURE -> jpql.append(" AND b.start > :now AND b.end > :now");
+            case WAITING, REJECTED -> jpql.append(" AND b.status = :status");
+            default -> {
+            }
+        }
+        if (shape.afterCursor()) {
+            jpql.append(" AND b.start <= :afterStart AND (b.start < :afterStart OR b.id < :afterId)");
+        }
+        return jpql.append(" ORDER BY b.start DESC, b.id DESC").toString();
+    }
+
+    private record Shape(BookingRole role, BookingState state, boolean afterCursor) {
+    }
+
+    private record TimerKey(BookingRole role, BookingState state, boolean paged) {
+    }
+}
@@ -1,8 +1,12 @@
 package ru.practicum.shareit.booking.service;
 
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.practicum.shareit.booking.dto.BookingApproval;
+import ru.practicum.shareit.booking.dto.BookingApprovalResult;
 import ru.practicum.shareit.booking.dto.CreateBookingRequest;
 import ru.practicum.shareit.booking.dto.BookingResponse;
 import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.util.KeysetCursor;
 
 import java.util.List;
 
@@ -12,9 +16,19 @@ public interface BookingService {
 
     BookingResponse approveBooking(Integer ownerId, Integer bookingId, Boolean isApproved);
 
+    List<BookingApprovalResult> approveBookings(Integer ownerId, List<BookingApproval> approvals);
+
     BookingResponse getBooking(Integer userId, Integer bookingId);
 
     List<BookingResponse> getUserBookings(Integer userId, BookingState state);
 
+    List<BookingResponse> getUserBookings(Integer userId, BookingState state, KeysetCursor after, int size);
+
     List<BookingResponse> getOwnerBookings(Integer ownerId, BookingState state);
+
+    List<BookingResponse> getOwnerBookings(Integer ownerId, BookingState state, KeysetCursor after, int size);
+
+    StreamingResponseBody streamUserBookings(Integer userId, BookingState state);
+
+    StreamingResponseBody streamOwnerBookings(Integer ownerId, BookingState state);
 }
\ No newline at end of file
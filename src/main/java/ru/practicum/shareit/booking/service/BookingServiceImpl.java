@@ -1,35 +1,68 @@
 package ru.practicum.shareit.booking.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.practicum.shareit.booking.dto.BookingApproval;
+import ru.practicum.shareit.booking.dto.BookingApprovalResult;
 import ru.practicum.shareit.booking.dto.BookingResponse;
+import ru.practicum.shareit.booking.dto.BookingView;
 import ru.practicum.shareit.booking.dto.CreateBookingRequest;
 import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingRole;
 import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.outbox.BookingEventType;
+import ru.practicum.shareit.booking.outbox.BookingOutbox;
+import ru.practicum.shareit.booking.repository.BookingQuery;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.timeline.BookingAdmission;
+import ru.practicum.shareit.booking.timeline.ItemBookingTimeline;
+import ru.practicum.shareit.datasource.ReadYourWrites;
+import ru.practicum.shareit.exception.ConflictException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.exception.WrongUserAccessException;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.util.KeysetCursor;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Clock;
 import java.time.LocalDateTime;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class BookingServiceImpl implements BookingService {
 
+    private static final int STREAM_FETCH_SIZE = 500;
+
     private final BookingRepository bookingRepository;
     private final UserRepository userRepository;
     private final ItemRepository itemRepository;
+    private final ItemBookingTimeline bookingTimeline;
+    private final BookingAdmission bookingAdmission;
+    private final BookingOutbox bookingOutbox;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
 
     @Override
     @Transactional
@@ -40,10 +73,13 @@ public class BookingServiceImpl implements BookingService {
         validateBookerIsNotOwner(booker.getId(), item.getOwner().getId());
         validateItemIsAvailable(item);
         validateBookingDates(request.getStart(), request.getEnd());
+        bookingAdmission.admit(item.getId(), null, request.getStart(), request.getEnd());
 
         Booking booking = BookingMapper.mapToBooking(request, booker, item);
         booking.setStatus(BookingStatus.WAITING);
         booking = bookingRepository.save(booking);
+        bookingOutbox.record(BookingEventType.CREATED, booking);
+        bookingTimeline.record(booking);
 
         return BookingMapper.mapToBookingResponse(booking);
     }
@@ -51,17 +87,49 @@ public class BookingServiceImpl implements BookingService {
     @Override
     @Transactional
     public BookingResponse approveBooking(Integer ownerId, Integer bookingId, Boolean isApproved) {
+        bookingAdmission.lockItem(validateBookingItemId(bookingId));
         Booking booking = validateBookingExists(bookingId);
 
         validateUserIsOwner(ownerId, booking);
         validateBookingStatusIsWaiting(booking);
+        if (isApproved) {
+            bookingAdmission.checkAvailable(booking.getItem().getId(), booking.getId(),
+                    booking.getStart(), booking.getEnd());
+        }
 
         processApprove(booking, isApproved);
         booking = bookingRepository.save(booking);
+        bookingTimeline.record(booking);
 
         return BookingMapper.mapToBookingResponse(booking);
     }
 
+    @Override
+    @Transactional
+    public List<BookingApprovalResult> approveBookings(Integer ownerId, List<BookingApproval> approvals) {
+        validateUserExists(ownerId);
+        List<Integer> bookingIds = approvals.stream()
+                .map(BookingApproval::getBookingId)
+                .distinct()
+                .toList();
+        bookingAdmission.lockItems(bookingRepository.findItemIdsByIdIn(bookingIds));
+        Map<Integer, Booking> bookings = bookingRepository.findWithItemAndOwnerByIdIn(bookingIds).stream()
+                .collect(Collectors.toMap(Booking::getId, Function.identity()));
+
+        Map<Integer, List<Booking>> approvedByItem = new HashMap<>();
+        List<BookingApprovalResult> results = new ArrayList<>(approvals.size());
+        for (BookingApproval approval : approvals) {
+            try {
+                Booking booking = approveInBatch(ownerId, approval, bookings.get(approval.getBookingId()),
+                        approvedByItem);
+                results.add(BookingMapper.mapToApprovalResult(booking));
+            } catch (NotFoundException | IllegalArgumentException | ConflictException e) {
+                results.add(BookingMapper.mapToApprovalResult(approval.getBookingId(), e.getMessage()));
+            }
+        }
+        return results;
+    }
+
     @Override
     public BookingResponse getBooking(Integer userId, Integer bookingId) {
         User user = validateUserExists(userId);
@@ -74,30 +142,93 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     public List<BookingResponse> getUserBookings(Integer userId, BookingState state) {
-        User user = validateUserExists(userId);
-        List<Booking> bookings = getBookingsByState(user.getId(), state);
-
-        bookings.sort(Comparator.comparing(Booking::getStart).reversed());
+        return getUserBookings(userId, state, null, Limit.unlimited());
+    }
 
-        return bookings.stream()
-                .map(BookingMapper::mapToBookingResponse)
-                .collect(Collectors.toList());
+    @Override
+    public List<BookingResponse> getUserBookings(Integer userId, BookingState state, KeysetCursor after, int size) {
+        return getUserBookings(userId, state, after, Limit.of(size));
     }
 
     @Override
     public List<BookingResponse> getOwnerBookings(Integer ownerId, BookingState state) {
+        return getOwnerBookings(ownerId, state, null, Limit.unlimited());
+    }
+
+    @Override
+    public List<BookingResponse> getOwnerBookings(Integer ownerId, BookingState state, KeysetCursor after, int size) {
+        return getOwnerBookings(ownerId, state, after, Limit.of(size));
+    }
+
+    @Override
+    public StreamingResponseBody streamUserBookings(Integer userId, BookingState state) {
+        User user = validateUserExists(userId);
+        return streamBookings(bookingQuery(BookingRole.BOOKER, user.getId(), state, null, Limit.unlimited()));
+    }
+
+    @Override
+    public StreamingResponseBody streamOwnerBookings(Integer ownerId, BookingState state) {
         User owner = validateUserExists(ownerId);
         validateUserHasItems(ownerId);
+        return streamBookings(bookingQuery(BookingRole.OWNER, owner.getId(), state, null, Limit.unlimited()));
+    }
 
-        List<Booking> bookings = getOwnerBookingsByState(owner.getId(), state);
+    private List<BookingResponse> getUserBookings(Integer userId, BookingState state,
+                                                  KeysetCursor after, Limit limit) {
+        User user = validateUserExists(userId);
+        return findBookings(BookingRole.BOOKER, user.getId(), state, after, limit);
+    }
 
-        bookings.sort(Comparator.comparing(Booking::getStart).reversed());
+    private List<BookingResponse> getOwnerBookings(Integer ownerId, BookingState state,
+                                                   KeysetCursor after, Limit limit) {
+        User owner = validateUserExists(ownerId);
+        validateUserHasItems(ownerId);
+        return findBookings(BookingRole.OWNER, owner.getId(), state, after, limit);
+    }
 
-        return bookings.stream()
+    private List<BookingResponse> findBookings(BookingRole role, Integer userId, BookingState state,
+                                               KeysetCursor after, Limit limit) {
+        return bookingRepository.findBookings(bookingQuery(role, userId, state, after, limit)).stream()
                 .map(BookingMapper::mapToBookingResponse)
                 .collect(Collectors.toList());
     }
 
+    private BookingQuery bookingQuery(BookingRole role, Integer userId, BookingState state,
+                                      KeysetCursor after, Limit limit) {
+        return BookingQuery.builder()
+                .role(role)
+                .userId(userId)
+                .state(state)
+                .now(LocalDateTime.now(clock))
+                .after(after)
+                .limit(limit)
+                .build();
+    }
+
+    /**
+     * Writes the bookings as NDJSON from one read-only transaction with a bounded fetch size,
+     * so the body is a consistent snapshot and only one fetch batch is held in memory. The
+     * body runs on an async thread, so the read-your-writes pin of the request is carried over.
+     */
+    private StreamingResponseBody streamBookings(BookingQuery query) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        return ReadYourWrites.keepPin(output -> transaction.executeWithoutResult(status -> {
+            try (Stream<BookingView> bookings = bookingRepository.streamBookings(query, STREAM_FETCH_SIZE)) {
+                Iterator<BookingView> iterator = bookings.iterator();
+                for (int written = 1; iterator.hasNext(); written++) {
+                    output.write(objectMapper.writeValueAsBytes(BookingMapper.mapToBookingResponse(iterator.next())));
+                    output.write('\n');
+                    if (written % STREAM_FETCH_SIZE == 0) {
+                        output.flush();
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+    }
+
     private User validateUserExists(Integer userId) {
         return userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException(
@@ -135,6 +266,13 @@ public class BookingServiceImpl implements BookingService {
                 ));
     }
 
+    private Integer validateBookingItemId(Integer bookingId) {
+        return bookingRepository.findItemIdById(bookingId)
+                .orElseThrow(() -> new NotFoundException(
+                        String.format("Booking with id %d not found", bookingId)
+                ));
+    }
+
     private void validateUserIsOwner(Integer userId, Booking booking) {
         Integer ownerId = booking.getItem().getOwner().getId();
         if (!userId.equals(ownerId)) {
@@ -152,12 +290,33 @@ public class BookingServiceImpl implements BookingService {
         }
     }
 
+    private Booking approveInBatch(Integer ownerId, BookingApproval approval, Booking booking,
+                                   Map<Integer, List<Booking>> approvedByItem) {
+        if (booking == null) {
+            throw new NotFoundException(String.format("Booking with id %d not found", approval.getBookingId()));
+        }
+        validateUserIsOwner(ownerId, booking);
+        validateBookingStatusIsWaiting(booking);
+        if (approval.getApproved()) {
+            List<Booking> approvedForItem = approvedByItem.computeIfAbsent(booking.getItem().getId(),
+                    itemId -> new ArrayList<>());
+            bookingAdmission.checkAvailable(booking.getItem().getId(), booking.getId(),
+                    booking.getStart(), booking.getEnd(), approvedForItem);
+            approvedForItem.add(booking);
+        }
+
+        processApprove(booking, approval.getApproved());
+        bookingTimeline.record(booking);
+        return booking;
+    }
+
     private void processApprove(Booking booking, Boolean isApproved) {
         if (isApproved) {
             booking.setStatus(BookingStatus.APPROVED);
         } else {
             booking.setStatus(BookingStatus.REJECTED);
         }
+        bookingOutbox.record(isApproved ? BookingEventType.APPROVED : BookingEventType.REJECTED, booking);
     }
 
     private void validateUserHasAccess(User user, Booking booking) {
@@ -179,40 +338,6 @@ public class BookingServiceImpl implements BookingService {
         }
     }
 
-    private List<Booking> getBookingsByState(Integer userId, BookingState state) {
-        switch (state) {
-            case CURRENT:
-                return bookingRepository.findCurrentByBookerIdWithRelations(userId, LocalDateTime.now());
-            case PAST:
-                return bookingRepository.findPastByBookerIdWithRelations(userId, LocalDateTime.now());
-            case FUTURE:
-                return bookingRepository.findFutureByBookerIdWithRelations(userId, LocalDateTime.now());
-            case WAITING:
-                return bookingRepository.findByBookerIdAndStatusWithRelations(userId, BookingStatus.WAITING);
-            case REJECTED:
-                return bookingRepository.findByBookerIdAndStatusWithRelations(userId, BookingStatus.REJECTED);
-            default:
-                return bookingRepository.findByBookerIdWithRelations(userId);
-        }
-    }
-
-    private List<Booking> getOwnerBookingsByState(Integer ownerId, BookingState state) {
-        switch (state) {
-            case CURRENT:
-                return bookingRepository.findCurrentByItemOwnerIdWithRelations(ownerId, LocalDateTime.now());
-            case PAST:
-                return bookingRepository.findPastByItemOwnerIdWithRelations(ownerId, LocalDateTime.now());
-            case FUTURE:
-                return bookingRepository.findFutureByItemOwnerIdWithRelations(ownerId, LocalDateTime.now());
-            case WAITING:
-                return bookingRepository.findByItemOwnerIdAndStatusWithRelations(ownerId, BookingStatus.WAITING);
-            case REJECTED:
-                return bookingRepository.findByItemOwnerIdAndStatusWithRelations(ownerId, BookingStatus.REJECTED);
-            default:
-                return bookingRepository.findByItemOwnerIdWithRelations(ownerId);
-        }
-    }
-
     private void validateBookingDates(LocalDateTime start, LocalDateTime end) {
         if (end.isBefore(start)) {
             throw new IllegalArgumentException("End date must be after start date");
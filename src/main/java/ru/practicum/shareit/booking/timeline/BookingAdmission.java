@@ -0,0 +1,88 @@
+package ru.practicum.shareit.booking.timeline;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.exception.ConflictException;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Serializes booking writes per item. The item's lock stripe is held until the surrounding
+ * transaction completes, so the overlap check and the timeline update after commit happen
+ * atomically with respect to other writers of the same item. The stripes live in this
+ * process only; with several instances writing bookings, two of them can still admit
+ * overlapping bookings of one item.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingAdmission {
+
+    private static final int STRIPE_COUNT = 64;
+
+    private final ItemBookingTimeline bookingTimeline;
+    private final ReentrantLock[] stripes = createStripes();
+
+    public void lockItem(Integer itemId) {
+        lockItems(List.of(itemId));
+    }
+
+    /**
+     * Locks the stripes of all given items in stripe order, so that concurrent batches over
+     * overlapping item sets cannot deadlock.
+     */
+    public void lockItems(Collection<Integer> itemIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Item lock requires an active transaction");
+        }
+        List<ReentrantLock> locks = itemIds.stream()
+                .map(itemId -> Math.floorMod(itemId.hashCode(), STRIPE_COUNT))
+                .distinct()
+                .sorted()
+                .map(stripe -> stripes[stripe])
+                .toList();
+        locks.forEach(ReentrantLock::lock);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                locks.forEach(ReentrantLock::unlock);
+            }
+        });
+    }
+
+    public void admit(Integer itemId, Integer bookingId, LocalDateTime start, LocalDateTime end) {
+        lockItem(itemId);
+        checkAvailable(itemId, bookingId, start, end);
+    }
+
+    public void checkAvailable(Integer itemId, Integer bookingId, LocalDateTime start, LocalDateTime end) {
+        checkAvailable(itemId, bookingId, start, end, List.of());
+    }
+
+    /**
+     * Also checks against bookings approved earlier in the same transaction, which are not
+     * in the timeline until it commits.
+     */
+    public void checkAvailable(Integer itemId, Integer bookingId, LocalDateTime start, LocalDateTime end,
+                               Collection<Booking> approvedInTransaction) {
+        boolean overlapsPending = approvedInTransaction.stream()
+                .anyMatch(other -> other.getStart().isBefore(end) && other.getEnd().isAfter(start));
+        if (overlapsPending || bookingTimeline.hasApprovedOverlap(itemId, bookingId, start, end)) {
+            throw new ConflictException(
+                    String.format("Item with id %d is already booked for the requested period", itemId));
+        }
+    }
+
+    private static ReentrantLock[] createStripes() {
+        ReentrantLock[] locks = new ReentrantLock[STRIPE_COUNT];
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
+    }
+}
@@ -0,0 +1,158 @@
+package ru.practicum.shareit.booking.timeline;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.util.TransactionCallbacks;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-item view of all bookings ordered by start and by end date, used to answer
+ * last/next booking lookups in O(log n) without aggregate queries over the bookings table.
+ * Approved bookings are also kept in a separate set for overlap checks. Admission keeps them
+ * apart, but imported or legacy rows may still overlap, so the check walks back from the
+ * requested end only as far as the longest approved booking of the item can reach.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemBookingTimeline implements SmartInitializingSingleton {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private static final Comparator<TimelineSlot> BY_START = Comparator.comparing(TimelineSlot::getStart)
+            .thenComparing(TimelineSlot::getBookingId);
+    private static final Comparator<TimelineSlot> BY_END = Comparator.comparing(TimelineSlot::getEnd)
+            .thenComparing(TimelineSlot::getBookingId);
+
+    private final BookingRepository bookingRepository;
+
+    private final Map<Integer, TimelineSlot> slots = new ConcurrentHashMap<>();
+    private final Map<Integer, ItemSlots> items = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Integer lastId = 0;
+        List<TimelineSlot> batch;
+        do {
+            batch = bookingRepository.findTimelineSlots(lastId, Limit.of(LOAD_BATCH_SIZE));
+            batch.forEach(this::put);
+            if (!batch.isEmpty()) {
+                lastId = batch.getLast().getBookingId();
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+        log.info("Booking timeline loaded with {} bookings for {} items", slots.size(), items.size());
+    }
+
+    public void record(Booking booking) {
+        TimelineSlot slot = new TimelineSlot(booking.getId(), booking.getItem().getId(),
+                booking.getItem().getOwner().getId(), booking.getBooker().getId(),
+                booking.getStatus(), stored(booking.getStart()), stored(booking.getEnd()));
+        TransactionCallbacks.afterCommit(() -> put(slot));
+    }
+
+    public Optional<TimelineSlot> findLast(Integer itemId, LocalDateTime now) {
+        ItemSlots itemSlots = items.get(itemId);
+        if (itemSlots == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(itemSlots.byEnd.lower(probe(Integer.MIN_VALUE, now)));
+    }
+
+    public Optional<TimelineSlot> findNext(Integer itemId, LocalDateTime now) {
+        ItemSlots itemSlots = items.get(itemId);
+        if (itemSlots == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(itemSlots.byStart.higher(probe(Integer.MAX_VALUE, now)));
+    }
+
+    public boolean hasApprovedOverlap(Integer itemId, Integer bookingId, LocalDateTime start, LocalDateTime end) {
+        ItemSlots itemSlots = items.get(itemId);
+        if (itemSlots == null) {
+            return false;
+        }
+        LocalDateTime reach = start.minusNanos(itemSlots.longestApprovedNanos.get());
+        NavigableSet<TimelineSlot> startingBefore = itemSlots.approved.headSet(probe(Integer.MIN_VALUE, end), false);
+        for (TimelineSlot candidate : startingBefore.descendingSet()) {
+            if (!candidate.getStart().isAfter(reach)) {
+                return false;
+            }
+            if (!candidate.getBookingId().equals(bookingId) && candidate.getEnd().isAfter(start)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void removeByUser(Integer userId) {
+        slots.values().stream()
+                .filter(slot -> slot.getBookerId().equals(userId) || slot.getOwnerId().equals(userId))
+                .toList()
+                .forEach(this::remove);
+    }
+
+    private void put(TimelineSlot slot) {
+        ItemSlots itemSlots = items.computeIfAbsent(slot.getItemId(), id -> new ItemSlots());
+        TimelineSlot previous = slots.put(slot.getBookingId(), slot);
+        if (previous != null) {
+            itemSlots.remove(previous);
+        }
+        itemSlots.add(slot);
+    }
+
+    private void remove(TimelineSlot slot) {
+        slots.remove(slot.getBookingId());
+        ItemSlots itemSlots = items.get(slot.getItemId());
+        if (itemSlots != null) {
+            itemSlots.remove(slot);
+        }
+    }
+
+    private static LocalDateTime stored(LocalDateTime moment) {
+        return moment.truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private static TimelineSlot probe(Integer bookingId, LocalDateTime moment) {
+        return new TimelineSlot(bookingId, null, null, null, null, moment, moment);
+    }
+
+    private static final class ItemSlots {
+        private final NavigableSet<TimelineSlot> byStart = new ConcurrentSkipListSet<>(BY_START);
+        private final NavigableSet<TimelineSlot> byEnd = new ConcurrentSkipListSet<>(BY_END);
+        private final NavigableSet<TimelineSlot> approved = new ConcurrentSkipListSet<>(BY_START);
+        private final AtomicLong longestApprovedNanos = new AtomicLong();
+
+        private void add(TimelineSlot slot) {
+            byStart.add(slot);
+            byEnd.add(slot);
+            if (slot.getStatus() == BookingStatus.APPROVED) {
+                longestApprovedNanos.accumulateAndGet(
+                        Duration.between(slot.getStart(), slot.getEnd()).toNanos(), Math::max);
+                approved.add(slot);
+            }
+        }
+
+        private void remove(TimelineSlot slot) {
+            byStart.remove(slot);
+            byEnd.remove(slot);
+            approved.remove(slot);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package ru.practicum.shareit.booking.timeline;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import ru.practicum.shareit.booking.model.BookingStatus;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class TimelineSlot {
+    private final Integer bookingId;
+    private final Integer itemId;
+    private final Integer ownerId;
+    private final Integer bookerId;
+    private final BookingStatus status;
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+}
@@ -0,0 +1,14 @@
+package ru.practicum.shareit.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "shareit.access-log")
+public class AccessLogProperties {
+    private boolean enabled = true;
+    private double sampleRate = 1.0;
+    private Duration slowThreshold = Duration.ofSeconds(1);
+}
@@ -0,0 +1,49 @@
+package ru.practicum.shareit.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.outbox.BookingEventListener;
+import ru.practicum.shareit.booking.outbox.BookingOutboxDispatcher;
+import ru.practicum.shareit.booking.outbox.BookingOutboxRepository;
+
+import java.time.Clock;
+
+/**
+ * Polls the booking outbox and purges delivered events. The dispatcher relies on the
+ * in-process item locks for ordering, so with several instances it has to run on one
+ * of them only ({@code shareit.booking.outbox.dispatcher-enabled=false} elsewhere).
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(BookingOutboxProperties.class)
+@ConditionalOnProperty(prefix = "shareit.booking.outbox", name = "dispatcher-enabled", matchIfMissing = true)
+public class BookingOutboxConfig {
+
+    @Bean
+    public BookingOutboxDispatcher bookingOutboxDispatcher(BookingOutboxRepository outboxRepository,
+                                                           ObjectProvider<BookingEventListener> listeners,
+                                                           PlatformTransactionManager transactionManager,
+                                                           BookingOutboxProperties properties,
+                                                           MeterRegistry meterRegistry,
+                                                           Clock clock) {
+        return new BookingOutboxDispatcher(outboxRepository, listeners, new TransactionTemplate(transactionManager),
+                properties, meterRegistry, clock);
+    }
+
+    @Bean
+    public SchedulingConfigurer bookingOutboxSchedule(BookingOutboxDispatcher bookingOutboxDispatcher,
+                                                      BookingOutboxProperties properties) {
+        return registrar -> {
+            registrar.addFixedDelayTask(bookingOutboxDispatcher::dispatch, properties.getPollInterval());
+            registrar.addFixedDelayTask(bookingOutboxDispatcher::purge, properties.getPurgeInterval());
+        };
+    }
+}
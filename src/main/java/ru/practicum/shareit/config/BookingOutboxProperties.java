@@ -0,0 +1,18 @@
+package ru.practicum.shareit.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "shareit.booking.outbox")
+public class BookingOutboxProperties {
+    private boolean dispatcherEnabled = true;
+    private Duration pollInterval = Duration.ofMillis(500);
+    private int batchSize = 100;
+    private int maxBatchesPerPoll = 10;
+    private int maxAttempts = 10;
+    private Duration retention = Duration.ofDays(7);
+    private Duration purgeInterval = Duration.ofHours(1);
+}
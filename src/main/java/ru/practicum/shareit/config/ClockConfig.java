@@ -0,0 +1,25 @@
+package ru.practicum.shareit.config;
+
+import org.springframework.boot.autoconfigure.validation.ValidationConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * Single source of the current time for services, mappers and {@code @Future}/{@code @Past}
+ * validation, so tests can pin "now" by replacing the {@link Clock} bean.
+ */
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+
+    @Bean
+    public ValidationConfigurationCustomizer clockValidationCustomizer(Clock clock) {
+        return configuration -> configuration.clockProvider(() -> clock);
+    }
+}
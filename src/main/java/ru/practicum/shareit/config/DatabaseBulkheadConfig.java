@@ -0,0 +1,58 @@
+package ru.practicum.shareit.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import ru.practicum.shareit.datasource.ConnectionWaitMonitor;
+import ru.practicum.shareit.web.DatabaseBulkheadFilter;
+
+/**
+ * Caps the number of requests that may work with the database at the same time. With
+ * virtual threads the web layer no longer limits concurrency, so without the bulkhead
+ * every request would queue inside the JDBC pool and fail there after the connection timeout.
+ * In adaptive mode the cap follows the connection pool wait time sampled every {@code adjustInterval}.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(DatabaseBulkheadProperties.class)
+public class DatabaseBulkheadConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "shareit.db.bulkhead", name = "enabled", matchIfMissing = true)
+    public DatabaseBulkheadFilter databaseBulkheadFilter(DatabaseBulkheadProperties properties,
+                                                         ObjectMapper objectMapper) {
+        return new DatabaseBulkheadFilter(properties, objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "shareit.db.bulkhead", name = "enabled", matchIfMissing = true)
+    public MeterBinder databaseBulkheadMetrics(DatabaseBulkheadFilter databaseBulkheadFilter) {
+        return registry -> {
+            Gauge.builder("shareit.db.bulkhead.available", databaseBulkheadFilter,
+                            DatabaseBulkheadFilter::availablePermits)
+                    .description("Free database bulkhead permits")
+                    .register(registry);
+            Gauge.builder("shareit.db.bulkhead.limit", databaseBulkheadFilter, DatabaseBulkheadFilter::limit)
+                    .description("Current database bulkhead limit")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "shareit.db.bulkhead", name = {"enabled", "adaptive"}, matchIfMissing = true)
+    public SchedulingConfigurer databaseBulkheadSchedule(DatabaseBulkheadFilter databaseBulkheadFilter,
+                                                         DatabaseBulkheadProperties properties,
+                                                         MeterRegistry meterRegistry) {
+        ConnectionWaitMonitor connectionWaitMonitor = new ConnectionWaitMonitor(meterRegistry);
+        return registrar -> registrar.addFixedRateTask(
+                () -> databaseBulkheadFilter.adjustLimit(connectionWaitMonitor.meanWaitSinceLastSample()),
+                properties.getAdjustInterval());
+    }
+}
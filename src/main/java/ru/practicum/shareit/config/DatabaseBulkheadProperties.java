@@ -0,0 +1,19 @@
+package ru.practicum.shareit.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "shareit.db.bulkhead")
+public class DatabaseBulkheadProperties {
+    private boolean enabled = true;
+    private int maxConcurrentRequests = 20;
+    private Duration acquireTimeout = Duration.ofSeconds(2);
+    private boolean adaptive = true;
+    private int minConcurrentRequests = 4;
+    private Duration targetConnectionWait = Duration.ofMillis(50);
+    private double decreaseFactor = 0.75;
+    private Duration adjustInterval = Duration.ofSeconds(1);
+}
@@ -0,0 +1,11 @@
+package ru.practicum.shareit.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "shareit.user.email-registry")
+public class EmailRegistryProperties {
+    private long expectedInsertions = 1_000_000;
+    private double falsePositiveProbability = 0.01;
+}
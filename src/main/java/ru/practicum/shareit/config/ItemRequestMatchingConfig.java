@@ -0,0 +1,9 @@
+package ru.practicum.shareit.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ItemRequestMatchingProperties.class)
+public class ItemRequestMatchingConfig {
+}
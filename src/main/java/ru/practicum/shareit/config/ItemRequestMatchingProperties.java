@@ -0,0 +1,13 @@
+package ru.practicum.shareit.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "shareit.request.matching")
+public class ItemRequestMatchingProperties {
+    private double minKeywordShare = 0.5;
+    private int maxPostings = 10_000;
+    private int threads = 1;
+    private int queueCapacity = 10_000;
+}
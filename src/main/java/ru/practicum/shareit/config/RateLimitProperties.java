@@ -0,0 +1,22 @@
+package ru.practicum.shareit.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "shareit.rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    private int capacity = 50;
+    private int refillPerSecond = 20;
+    private Duration idleTimeout = Duration.ofMinutes(5);
+    private long maximumClients = 100_000;
+    /**
+     * Tokens taken by a request, keyed by {@code "METHOD /path"}; other requests take one token.
+     */
+    private Map<String, Integer> costs = new LinkedHashMap<>();
+}
@@ -0,0 +1,42 @@
+package ru.practicum.shareit.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ru.practicum.shareit.item.search.CachedQueries;
+import ru.practicum.shareit.item.search.IndexedItem;
+
+import java.util.List;
+
+/**
+ * Result cache for item search keyed by the normalized query. Caffeine evicts by
+ * W-TinyLFU within a total weight of cached results, so a few popular terms stay
+ * resident while one-off queries are admitted only if they prove more frequent.
+ * Evicted queries are dropped from {@link CachedQueries} within the eviction itself.
+ */
+@Configuration
+@EnableConfigurationProperties(SearchCacheProperties.class)
+public class SearchCacheConfig {
+
+    @Bean
+    public Cache<String, List<IndexedItem>> searchResultCache(SearchCacheProperties properties,
+                                                              CachedQueries cachedQueries) {
+        return Caffeine.newBuilder()
+                .maximumWeight(properties.getMaximumWeight())
+                .weigher((String query, List<IndexedItem> results) -> results.size() + 1)
+                .evictionListener((String query, List<IndexedItem> results, RemovalCause cause) ->
+                        cachedQueries.remove(query))
+                .recordStats()
+                .build();
+    }
+
+    @Bean
+    public MeterBinder searchResultCacheMetrics(Cache<String, List<IndexedItem>> searchResultCache) {
+        return registry -> CaffeineCacheMetrics.monitor(registry, searchResultCache, "search");
+    }
+}
@@ -0,0 +1,10 @@
+package ru.practicum.shareit.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "shareit.cache.search")
+public class SearchCacheProperties {
+    private long maximumWeight = 100_000;
+}
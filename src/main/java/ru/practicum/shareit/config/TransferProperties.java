@@ -0,0 +1,12 @@
+package ru.practicum.shareit.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "shareit.transfer")
+public class TransferProperties {
+    private int chunkSize = 500;
+    private int fetchSize = 1000;
+    private int maxReportedErrors = 1000;
+}
@@ -0,0 +1,38 @@
+package ru.practicum.shareit.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mean time requests waited for a JDBC connection since the previous sample, summed over all
+ * Hikari pools (primary and replicas) from their {@code hikaricp.connections.acquire} timers.
+ */
+public class ConnectionWaitMonitor {
+
+    private static final String ACQUIRE_TIMER = "hikaricp.connections.acquire";
+
+    private final MeterRegistry meterRegistry;
+    private long lastCount;
+    private double lastTotalNanos;
+
+    public ConnectionWaitMonitor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public synchronized Duration meanWaitSinceLastSample() {
+        long count = 0;
+        double totalNanos = 0;
+        for (Timer timer : meterRegistry.find(ACQUIRE_TIMER).timers()) {
+            count += timer.count();
+            totalNanos += timer.totalTime(TimeUnit.NANOSECONDS);
+        }
+        long acquired = count - lastCount;
+        double waited = totalNanos - lastTotalNanos;
+        lastCount = count;
+        lastTotalNanos = totalNanos;
+        return acquired > 0 && waited > 0 ? Duration.ofNanos((long) (waited / acquired)) : Duration.ZERO;
+    }
+}
@@ -0,0 +1,65 @@
+package ru.practicum.shareit.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Duration;
+
+/**
+ * Keeps a user's reads on the primary for a short window after they wrote, so they never
+ * read a replica that has not replayed their own change yet. The pin for the current thread
+ * is set per request by {@link ReadYourWritesFilter}. Recent writers live in a Caffeine cache
+ * that drops them once the window has passed and holds at most {@code maximumUsers} of them.
+ */
+public class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private final Cache<Integer, Boolean> recentWriters;
+
+    public ReadYourWrites(Duration window, long maximumUsers) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maximumUsers)
+                .build();
+    }
+
+    public void markWritten(Integer userId) {
+        recentWriters.put(userId, Boolean.TRUE);
+    }
+
+    public boolean isWithinWindow(Integer userId) {
+        return recentWriters.getIfPresent(userId) != null;
+    }
+
+    public static boolean isPinned() {
+        return Boolean.TRUE.equals(PINNED.get());
+    }
+
+    public static void pin() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    public static void unpin() {
+        PINNED.remove();
+    }
+
+    /**
+     * Carries the pin of the calling thread over to a response body that is written later on
+     * an async thread, outside {@link ReadYourWritesFilter}.
+     */
+    public static StreamingResponseBody keepPin(StreamingResponseBody body) {
+        if (!isPinned()) {
+            return body;
+        }
+        return output -> {
+            pin();
+            try {
+                body.writeTo(output);
+            } finally {
+                unpin();
+            }
+        };
+    }
+}
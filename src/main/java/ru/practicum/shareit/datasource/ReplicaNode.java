@@ -0,0 +1,61 @@
+package ru.practicum.shareit.datasource;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * A replica and the outcome of its last health check. A replica is usable when it answers
+ * and, if a lag query is configured, lags behind the primary by no more than the allowed lag.
+ */
+@Slf4j
+@Getter
+public class ReplicaNode {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final String name;
+    private final DataSource dataSource;
+    private volatile boolean healthy = true;
+    private volatile Duration lag = Duration.ZERO;
+
+    public ReplicaNode(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    void check(String lagQuery, Duration maxLag) {
+        boolean wasHealthy = healthy;
+        try (Connection connection = dataSource.getConnection()) {
+            if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                healthy = false;
+            } else {
+                lag = lagQuery == null ? Duration.ZERO : queryLag(connection, lagQuery);
+                healthy = lag.compareTo(maxLag) <= 0;
+            }
+        } catch (SQLException e) {
+            healthy = false;
+            log.debug("Replica {} health check failed", name, e);
+        }
+        if (wasHealthy != healthy) {
+            log.warn("Replica {} is now {} (lag {})", name, healthy ? "in rotation" : "out of rotation", lag);
+        }
+    }
+
+    private static Duration queryLag(Connection connection, String lagQuery) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            if (!resultSet.next()) {
+                return Duration.ZERO;
+            }
+            double seconds = resultSet.getDouble(1);
+            return resultSet.wasNull() ? Duration.ZERO : Duration.ofMillis(Math.round(seconds * 1000));
+        }
+    }
+}
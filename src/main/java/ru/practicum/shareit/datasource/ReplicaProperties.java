@@ -0,0 +1,27 @@
+package ru.practicum.shareit.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "shareit.datasource.replicas")
+public class ReplicaProperties {
+    private List<Node> nodes = new ArrayList<>();
+    private int maximumPoolSize = 10;
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+    private Duration maxLag = Duration.ofSeconds(5);
+    private String lagQuery;
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+    private long readYourWritesMaximumUsers = 100_000;
+
+    @Data
+    public static class Node {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
@@ -1,18 +1,22 @@
 package ru.practicum.shareit.item.controller;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import ru.practicum.shareit.item.dto.*;
 import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.util.EntityTags;
+import ru.practicum.shareit.util.KeysetCursor;
 
 import java.util.List;
 
-@Slf4j
 @Validated
 @RestController
 @RequestMapping("/items")
@@ -21,57 +25,63 @@ public class ItemController {
 
     private final ItemService itemService;
     private static final String USER_ID_HEADER = "X-Sharer-User-Id";
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int DEFAULT_COMMENTS_PAGE_SIZE = 20;
+    private static final int MAX_COMMENTS_PAGE_SIZE = 1000;
 
     @PostMapping
     public ItemResponse createItem(
             @NotNull @Positive @RequestHeader(USER_ID_HEADER) Integer ownerId,
             @Valid @RequestBody CreateItemRequest request) {
-        log.info("Received create item request: {} by owner ID: {}", request, ownerId);
-        ItemResponse response = itemService.createItem(ownerId, request);
-        log.debug("Returning create item response: {}", response);
-        return response;
+        return itemService.createItem(ownerId, request);
     }
 
     @PatchMapping("/{itemId}")
-    public ItemResponse updateItem(
+    public ResponseEntity<ItemResponse> updateItem(
             @NotNull @Positive @RequestHeader(USER_ID_HEADER) Integer ownerId,
             @NotNull @Positive @PathVariable Integer itemId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody UpdateItemRequest request) {
-        log.info("Received update item ID: {} request: {} by owner ID: {}", itemId, request, ownerId);
-        ItemResponse response = itemService.updateItem(ownerId, itemId, request);
-        log.debug("Returning update item response: {}", response);
-        return response;
+        ItemResponse item = itemService.updateItem(ownerId, itemId, request, EntityTags.versions(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(EntityTags.of(item.getVersion()))
+                .body(item);
     }
 
     @GetMapping("/{itemId}")
-    public GetItemResponse getItemById(
+    public ResponseEntity<GetItemResponse> getItemById(
             @NotNull @Positive @RequestHeader(USER_ID_HEADER) Integer userId,
-            @NotNull @Positive @PathVariable Integer itemId) {
-        log.info("Received get request for item ID: {} by user ID: {}", itemId, userId);
-        GetItemResponse response = itemService.getItemById(itemId, userId);
-        log.debug("Returning item data: {}", response);
-        return response;
+            @NotNull @Positive @PathVariable Integer itemId,
+            WebRequest webRequest) {
+        GetItemResponse item = itemService.getItemById(itemId, userId);
+        String eTag = EntityTags.of(item.getVersion(), item);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .varyBy(USER_ID_HEADER)
+                .body(item);
     }
 
     @GetMapping
     public List<GetItemResponse> getAllItemsByOwner(
             @NotNull @Positive @RequestHeader(USER_ID_HEADER) Integer ownerId) {
-        log.info("Received get all items request for owner ID: {}", ownerId);
-        List<GetItemResponse> response = itemService.getAllItemsByOwner(ownerId);
-        log.debug("Returning all items response: {}", response);
-        return response;
+        return itemService.getAllItemsByOwner(ownerId);
+    }
+
+    @GetMapping("/summary")
+    public List<ItemSummaryResponse> getOwnerSummary(
+            @NotNull @Positive @RequestHeader(USER_ID_HEADER) Integer ownerId) {
+        return itemService.getOwnerSummary(ownerId);
     }
 
     @GetMapping("/search")
     public List<ItemResponse> searchAvailableItems(@RequestParam String text) {
-        log.info("Received search request with text: {}", text);
         if (text == null || text.isBlank()) {
-            log.debug("Search text is blank. Returning response with empty list");
             return List.of();
         }
-        List<ItemResponse> response = itemService.searchItems(text);
-        log.debug("Returning search result response: {}", response);
-        return response;
+        return itemService.searchItems(text);
     }
 
     @PostMapping("/{itemId}/comment")
@@ -79,9 +89,22 @@ public class ItemController {
             @NotNull @Positive @RequestHeader(USER_ID_HEADER) Integer userId,
             @NotNull @Positive @PathVariable Integer itemId,
             @Valid @RequestBody CreateCommentRequest request) {
-        log.info("Received add comment request for item ID: {} by user ID: {}", itemId, userId);
-        CommentResponse response = itemService.addComment(itemId, userId, request);
-        log.debug("Returning comment response: {}", response);
-        return response;
+        return itemService.addComment(itemId, userId, request);
+    }
+
+    @GetMapping("/{itemId}/comments")
+    public ResponseEntity<List<CommentResponse>> getItemComments(
+            @NotNull @Positive @PathVariable Integer itemId,
+            @RequestParam(required = false) String cursor,
+            @Positive @Max(MAX_COMMENTS_PAGE_SIZE) @RequestParam(required = false) Integer size) {
+        int pageSize = size != null ? size : DEFAULT_COMMENTS_PAGE_SIZE;
+        List<CommentResponse> page = itemService.getItemComments(itemId, KeysetCursor.decode(cursor), pageSize);
+        if (page.size() < pageSize) {
+            return ResponseEntity.ok(page);
+        }
+        CommentResponse last = page.getLast();
+        return ResponseEntity.ok()
+                .header(NEXT_CURSOR_HEADER, new KeysetCursor(last.getCreated(), last.getId()).encode())
+                .body(page);
     }
 }
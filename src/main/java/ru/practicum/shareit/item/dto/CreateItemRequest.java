@@ -14,4 +14,5 @@ public class CreateItemRequest {
     private String description;
     @NotNull(message = "Available must not be null")
     private Boolean available;
+    private Integer requestId;
 }
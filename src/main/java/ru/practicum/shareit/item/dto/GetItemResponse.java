@@ -1,5 +1,6 @@
 package ru.practicum.shareit.item.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Data;
 
@@ -15,4 +16,8 @@ public class GetItemResponse {
     private BookingInfoResponse lastBooking;
     private BookingInfoResponse nextBooking;
     private List<CommentResponse> comments;
+    private String nextCommentsCursor;
+
+    @JsonIgnore
+    private Long version;
 }
\ No newline at end of file
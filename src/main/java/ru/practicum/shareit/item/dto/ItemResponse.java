@@ -1,5 +1,6 @@
 package ru.practicum.shareit.item.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Data;
 
@@ -10,4 +11,8 @@ public class ItemResponse {
     private String name;
     private String description;
     private Boolean available;
+    private Integer requestId;
+
+    @JsonIgnore
+    private Long version;
 }
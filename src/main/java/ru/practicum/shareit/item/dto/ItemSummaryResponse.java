@@ -0,0 +1,26 @@
+package ru.practicum.shareit.item.dto;
+
+import lombok.Builder;
+import lombok.Data;
+import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.booking.model.BookingStatus;
+
+import java.util.Map;
+
+@Data
+@Builder
+public class ItemSummaryResponse {
+    private Integer id;
+    private String name;
+    private Boolean available;
+    private Map<BookingStatus, Long> bookingsByStatus;
+    private Map<BookingState, Long> bookingsByState;
+    /**
+     * Share of the last {@code utilisationDays} days covered by approved bookings, in percent.
+     */
+    private Double utilisation;
+    private Integer utilisationDays;
+    private BookingInfoResponse lastBooking;
+    private BookingInfoResponse nextBooking;
+    private Long commentCount;
+}
@@ -0,0 +1,30 @@
+package ru.practicum.shareit.item.dto;
+
+import java.math.BigDecimal;
+
+public interface ItemSummaryView {
+
+    Integer getId();
+
+    String getName();
+
+    Boolean getAvailable();
+
+    Long getWaiting();
+
+    Long getApproved();
+
+    Long getRejected();
+
+    Long getCanceled();
+
+    Long getCurrent();
+
+    Long getPast();
+
+    Long getFuture();
+
+    BigDecimal getBookedSeconds();
+
+    Long getComments();
+}
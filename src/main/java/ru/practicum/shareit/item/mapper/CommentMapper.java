@@ -3,6 +3,7 @@ package ru.practicum.shareit.item.mapper;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import ru.practicum.shareit.item.dto.CommentResponse;
+import ru.practicum.shareit.item.dto.CommentView;
 import ru.practicum.shareit.item.dto.CreateCommentRequest;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
@@ -13,12 +14,13 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class CommentMapper {
 
-    public static Comment mapToComment(CreateCommentRequest request, Item item, User author) {
+    public static Comment mapToComment(CreateCommentRequest request, Item item, User author,
+                                       LocalDateTime created) {
         return Comment.builder()
                 .text(request.getText())
                 .item(item)
                 .author(author)
-                .created(LocalDateTime.now())
+                .created(created)
                 .build();
     }
 
@@ -28,7 +30,15 @@ public final class CommentMapper {
                 .text(comment.getText())
                 .authorName(comment.getAuthor().getName())
                 .created(comment.getCreated())
+                .build();
+    }
+
+    public static CommentResponse mapToCommentResponse(CommentView comment) {
+        return CommentResponse.builder()
+                .id(comment.getId())
                 .text(comment.getText())
+                .authorName(comment.getAuthorName())
+                .created(comment.getCreated())
                 .build();
     }
 }
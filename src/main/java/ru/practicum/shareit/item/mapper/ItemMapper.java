@@ -2,23 +2,30 @@ package ru.practicum.shareit.item.mapper;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.timeline.TimelineSlot;
 import ru.practicum.shareit.item.dto.*;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.search.IndexedItem;
+import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.user.model.User;
 
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ItemMapper {
 
-    public static Item mapToItem(User owner, CreateItemRequest request) {
+    public static Item mapToItem(User owner, CreateItemRequest request, ItemRequest itemRequest) {
         return Item.builder()
                 .name(request.getName())
                 .description(request.getDescription())
                 .available(request.getAvailable())
                 .owner(owner)
+                .request(itemRequest)
                 .build();
     }
 
@@ -28,17 +35,32 @@ public final class ItemMapper {
                 .name(item.getName())
                 .description(item.getDescription())
                 .available(item.getAvailable())
+                .requestId(item.getRequest() != null ? item.getRequest().getId() : null)
+                .version(item.getVersion())
                 .build();
     }
 
-    public static GetItemResponse mapToGetItemResponse(Item item, Booking lastBooking,
-                                                       Booking nextBooking, List<CommentResponse> comments) {
+    public static ItemResponse mapToItemResponse(IndexedItem item) {
+        return ItemResponse.builder()
+                .id(item.getId())
+                .name(item.getName())
+                .description(item.getDescription())
+                .available(true)
+                .requestId(item.getRequestId())
+                .build();
+    }
+
+    public static GetItemResponse mapToGetItemResponse(Item item, TimelineSlot lastBooking,
+                                                       TimelineSlot nextBooking, List<CommentResponse> comments,
+                                                       String nextCommentsCursor) {
         GetItemResponse.GetItemResponseBuilder builder = GetItemResponse.builder()
                 .id(item.getId())
                 .name(item.getName())
                 .description(item.getDescription())
                 .available(item.getAvailable())
-                .comments(comments != null ? comments : Collections.emptyList());
+                .comments(comments != null ? comments : Collections.emptyList())
+                .nextCommentsCursor(nextCommentsCursor)
+                .version(item.getVersion());
 
         if (lastBooking != null) {
             builder.lastBooking(mapToBookingInfo(lastBooking));
@@ -50,7 +72,39 @@ public final class ItemMapper {
         return builder.build();
     }
 
-    private static BookingInfoResponse mapToBookingInfo(Booking booking) {
+    public static ItemSummaryResponse mapToItemSummaryResponse(ItemSummaryView summary, TimelineSlot lastBooking,
+                                                               TimelineSlot nextBooking, double utilisation,
+                                                               int utilisationDays) {
+        Map<BookingStatus, Long> byStatus = new EnumMap<>(BookingStatus.class);
+        byStatus.put(BookingStatus.WAITING, count(summary.getWaiting()));
+        byStatus.put(BookingStatus.APPROVED, count(summary.getApproved()));
+        byStatus.put(BookingStatus.REJECTED, count(summary.getRejected()));
+        byStatus.put(BookingStatus.CANCELED, count(summary.getCanceled()));
+
+        Map<BookingState, Long> byState = new EnumMap<>(BookingState.class);
+        byState.put(BookingState.CURRENT, count(summary.getCurrent()));
+        byState.put(BookingState.PAST, count(summary.getPast()));
+        byState.put(BookingState.FUTURE, count(summary.getFuture()));
+
+        return ItemSummaryResponse.builder()
+                .id(summary.getId())
+                .name(summary.getName())
+                .available(summary.getAvailable())
+                .bookingsByStatus(byStatus)
+                .bookingsByState(byState)
+                .utilisation(utilisation)
+                .utilisationDays(utilisationDays)
+                .lastBooking(lastBooking != null ? mapToBookingInfo(lastBooking) : null)
+                .nextBooking(nextBooking != null ? mapToBookingInfo(nextBooking) : null)
+                .commentCount(count(summary.getComments()))
+                .build();
+    }
+
+    private static long count(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    private static BookingInfoResponse mapToBookingInfo(TimelineSlot booking) {
         return BookingInfoResponse.builder()
                 .start(booking.getStart())
                 .end(booking.getEnd())
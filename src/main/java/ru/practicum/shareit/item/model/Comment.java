@@ -33,5 +33,5 @@ public class Comment {
     private User author;
 
     @Column(nullable = false)
-    private LocalDateTime created = LocalDateTime.now();
+    private LocalDateTime created;
 }
\ No newline at end of file
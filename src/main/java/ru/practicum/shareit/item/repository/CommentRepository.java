@@ -1,22 +1,43 @@
 package ru.practicum.shareit.item.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.dto.CommentView;
 import ru.practicum.shareit.item.model.Comment;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Integer> {
 
-    List<Comment> findByItemId(Integer itemId);
+    String COMMENT_VIEW = "SELECT c.item.id AS itemId, c.id AS id, c.text AS text, " +
+            "a.name AS authorName, c.created AS created FROM Comment c JOIN c.author a ";
 
-    @Query("SELECT c FROM Comment c LEFT JOIN FETCH c.item LEFT JOIN FETCH c.author WHERE c.item.id IN :itemIds")
-    List<Comment> findByItemIdIn(@Param("itemIds") List<Integer> itemIds);
+    @Query(COMMENT_VIEW + "WHERE c.item.id = :itemId ORDER BY c.created DESC, c.id DESC")
+    List<CommentView> findViewsByItemId(@Param("itemId") Integer itemId, Limit limit);
+
+    @Query(COMMENT_VIEW + "WHERE c.item.id = :itemId " +
+            "AND (c.created < :created OR (c.created = :created AND c.id < :id)) " +
+            "ORDER BY c.created DESC, c.id DESC")
+    List<CommentView> findViewsByItemIdAfter(@Param("itemId") Integer itemId,
+                                             @Param("created") LocalDateTime created,
+                                             @Param("id") Integer id,
+                                             Limit limit);
+
+    @Query(value = "SELECT r.item_id AS itemId, r.id AS id, r.text AS text, " +
+            "r.author_name AS authorName, r.created AS created " +
+            "FROM (SELECT c.item_id, c.id, c.text, u.name AS author_name, c.created, " +
+            "ROW_NUMBER() OVER (PARTITION BY c.item_id ORDER BY c.created DESC, c.id DESC) AS row_num " +
+            "FROM comments c JOIN users u ON u.id = c.author_id WHERE c.item_id IN (:itemIds)) r " +
+            "WHERE r.row_num <= :perItem ORDER BY r.item_id, r.row_num", nativeQuery = true)
+    List<CommentView> findViewsByItemIdIn(@Param("itemIds") Collection<Integer> itemIds,
+                                          @Param("perItem") int perItem);
 
     @Query("SELECT COUNT(b) > 0 FROM Booking b " +
             "WHERE b.item.id = :itemId " +
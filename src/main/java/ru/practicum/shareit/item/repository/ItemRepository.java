@@ -1,11 +1,16 @@
 package ru.practicum.shareit.item.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.item.dto.ItemSummaryView;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.dto.ItemAnswerView;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,13 +19,36 @@ public interface ItemRepository extends JpaRepository<Item, Integer> {
 
     List<Item> findByOwnerId(Integer ownerId);
 
-    @Query("SELECT i FROM Item i WHERE i.available = true AND " +
-            "(LOWER(i.name) LIKE LOWER(CONCAT('%', :text, '%')) OR " +
-            "LOWER(i.description) LIKE LOWER(CONCAT('%', :text, '%')))")
-    List<Item> searchAvailableItems(@Param("text") String text);
+    List<Item> findByIdGreaterThanOrderByIdAsc(Integer id, Limit limit);
 
     long countByOwnerId(Integer ownerId);
 
     @Query("SELECT i FROM Item i LEFT JOIN FETCH i.owner WHERE i.id = :itemId")
     Optional<Item> findByIdWithOwner(@Param("itemId") Integer itemId);
+
+    @Query("SELECT i.id FROM Item i WHERE i.owner.id = :ownerId AND i.id IN :itemIds")
+    List<Integer> findIdsByOwnerIdAndIdIn(@Param("ownerId") Integer ownerId,
+                                          @Param("itemIds") Collection<Integer> itemIds);
+
+    @Query("SELECT i.request.id AS requestId, i.id AS id, i.name AS name, i.owner.id AS ownerId " +
+            "FROM Item i WHERE i.request.id IN :requestIds ORDER BY i.id")
+    List<ItemAnswerView> findAnswersByRequestIdIn(@Param("requestIds") Collection<Integer> requestIds);
+
+    @Query(value = "SELECT i.id AS id, i.name AS name, i.available AS available, " +
+            "SUM(CASE WHEN b.status = 'WAITING' THEN 1 ELSE 0 END) AS waiting, " +
+            "SUM(CASE WHEN b.status = 'APPROVED' THEN 1 ELSE 0 END) AS approved, " +
+            "SUM(CASE WHEN b.status = 'REJECTED' THEN 1 ELSE 0 END) AS rejected, " +
+            "SUM(CASE WHEN b.status = 'CANCELED' THEN 1 ELSE 0 END) AS canceled, " +
+            "SUM(CASE WHEN b.start_date <= :now AND b.end_date >= :now THEN 1 ELSE 0 END) AS current, " +
+            "SUM(CASE WHEN b.end_date < :now THEN 1 ELSE 0 END) AS past, " +
+            "SUM(CASE WHEN b.start_date > :now THEN 1 ELSE 0 END) AS future, " +
+            "SUM(CASE WHEN b.status = 'APPROVED' AND b.start_date < :now AND b.end_date > :from " +
+            "THEN EXTRACT(EPOCH FROM LEAST(b.end_date, :now)) - EXTRACT(EPOCH FROM GREATEST(b.start_date, :from)) " +
+            "ELSE 0 END) AS bookedSeconds, " +
+            "(SELECT COUNT(*) FROM comments c WHERE c.item_id = i.id) AS comments " +
+            "FROM items i LEFT JOIN bookings b ON b.item_id = i.id " +
+            "WHERE i.owner_id = :ownerId GROUP BY i.id, i.name, i.available ORDER BY i.id", nativeQuery = true)
+    List<ItemSummaryView> findSummariesByOwnerId(@Param("ownerId") Integer ownerId,
+                                                 @Param("now") LocalDateTime now,
+                                                 @Param("from") LocalDateTime from);
 }
@@ -0,0 +1,61 @@
+package ru.practicum.shareit.item.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Normalized queries held in the search result cache, bucketed by their first trigram.
+ * A document can only match a query whose every trigram it contains, so the queries a
+ * document change may affect are found by looking up the document's own trigrams instead
+ * of scanning the cache. A query is added when its results are cached and removed when
+ * they are invalidated or evicted, in both cases inside the cache's atomic operation for
+ * that query.
+ */
+@Component
+public class CachedQueries {
+
+    private final Map<String, Set<String>> buckets = new ConcurrentHashMap<>();
+
+    public void add(String query) {
+        buckets.compute(bucket(query), (key, queries) -> {
+            Set<String> bucket = queries != null ? queries : ConcurrentHashMap.newKeySet();
+            bucket.add(query);
+            return bucket;
+        });
+    }
+
+    public void remove(String query) {
+        buckets.computeIfPresent(bucket(query), (key, queries) -> {
+            queries.remove(query);
+            return queries.isEmpty() ? null : queries;
+        });
+    }
+
+    Set<String> matchedBy(IndexedItem document, Set<String> grams) {
+        Set<String> matched = new HashSet<>();
+        for (String gram : grams) {
+            collect(gram, document, matched);
+        }
+        return matched;
+    }
+
+    private void collect(String bucket, IndexedItem document, Set<String> matched) {
+        Set<String> queries = buckets.get(bucket);
+        if (queries == null) {
+            return;
+        }
+        for (String query : queries) {
+            if (document.matches(query)) {
+                matched.add(query);
+            }
+        }
+    }
+
+    private static String bucket(String query) {
+        return query.substring(0, ItemSearchIndex.GRAM_SIZE);
+    }
+}
@@ -0,0 +1,46 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.Getter;
+
+import java.util.Locale;
+
+@Getter
+public class IndexedItem {
+    private final Integer id;
+    private final Integer ownerId;
+    private final Integer requestId;
+    private final String name;
+    private final String description;
+    private final String normalizedName;
+    private final String normalizedDescription;
+
+    public IndexedItem(Integer id, Integer ownerId, Integer requestId, String name, String description) {
+        this.id = id;
+        this.ownerId = ownerId;
+        this.requestId = requestId;
+        this.name = name;
+        this.description = description;
+        this.normalizedName = name.toLowerCase(Locale.ROOT);
+        this.normalizedDescription = description.toLowerCase(Locale.ROOT);
+    }
+
+    public boolean matches(String normalizedQuery) {
+        return normalizedName.contains(normalizedQuery) || normalizedDescription.contains(normalizedQuery);
+    }
+
+    int rank(String normalizedQuery) {
+        if (normalizedName.equals(normalizedQuery)) {
+            return 0;
+        }
+        if (normalizedName.startsWith(normalizedQuery)) {
+            return 1;
+        }
+        if (normalizedName.contains(normalizedQuery)) {
+            return 2;
+        }
+        if (normalizedDescription.startsWith(normalizedQuery)) {
+            return 3;
+        }
+        return 4;
+    }
+}
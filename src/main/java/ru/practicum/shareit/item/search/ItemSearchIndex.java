@@ -0,0 +1,225 @@
+package ru.practicum.shareit.item.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.util.TransactionCallbacks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process trigram index over names and descriptions of available items.
+ * Substring queries are answered by intersecting trigram posting lists, so only candidate
+ * items are compared with the query text. Queries shorter than a trigram would have to
+ * compare every item and are rejected, and only the {@code MAX_RESULTS} best ranked
+ * matches are returned and cached.
+ * Results are cached per normalized query; every document change evicts the cached
+ * queries it matched before or matches after, found through {@link CachedQueries} by the
+ * document's trigrams, and a version counter keeps searches that raced with the change
+ * from caching what they computed. Eviction runs after the write lock is released; the
+ * version is bumped under the lock, which is enough to keep racing searches from caching
+ * results of the old documents.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemSearchIndex implements SmartInitializingSingleton {
+
+    static final int GRAM_SIZE = 3;
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final int MAX_RESULTS = 100;
+
+    private static final Comparator<Ranked> RANKING = Comparator.comparingInt(Ranked::rank)
+            .thenComparing(ranked -> ranked.item().getId());
+
+    private final ItemRepository itemRepository;
+    private final Cache<String, List<IndexedItem>> searchResultCache;
+    private final CachedQueries cachedQueries;
+
+    private final Map<Integer, IndexedItem> documents = new ConcurrentHashMap<>();
+    private final Map<String, Set<Integer>> postings = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    private final AtomicLong version = new AtomicLong();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Integer lastId = 0;
+        List<Item> batch;
+        do {
+            batch = itemRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(LOAD_BATCH_SIZE));
+            batch.forEach(this::apply);
+            if (!batch.isEmpty()) {
+                lastId = batch.getLast().getId();
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+        log.info("Item search index loaded with {} available items", documents.size());
+    }
+
+    public void index(Item item) {
+        Integer id = item.getId();
+        IndexedItem document = Boolean.TRUE.equals(item.getAvailable()) ? document(item) : null;
+        TransactionCallbacks.afterCommit(() -> replace(id, document));
+    }
+
+    public void removeByOwner(Integer ownerId) {
+        List<Integer> ids = documents.values().stream()
+                .filter(document -> document.getOwnerId().equals(ownerId))
+                .map(IndexedItem::getId)
+                .toList();
+        ids.forEach(id -> replace(id, null));
+    }
+
+    public List<IndexedItem> search(String text) {
+        String query = text.trim().toLowerCase(Locale.ROOT);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+        if (query.length() < GRAM_SIZE) {
+            throw new IllegalArgumentException("Search text must be at least " + GRAM_SIZE + " characters long");
+        }
+        List<IndexedItem> cached = searchResultCache.getIfPresent(query);
+        if (cached != null) {
+            return cached.stream()
+                    .filter(document -> documents.get(document.getId()) == document)
+                    .toList();
+        }
+
+        long searchedAt = version.get();
+        List<IndexedItem> results = find(query);
+        searchResultCache.asMap().compute(query, (key, stale) -> {
+            cachedQueries.add(key);
+            return results;
+        });
+        if (version.get() != searchedAt) {
+            evict(query);
+        }
+        return results;
+    }
+
+    private List<IndexedItem> find(String query) {
+        PriorityQueue<Ranked> best = new PriorityQueue<>(RANKING.reversed());
+        for (Integer id : candidates(query)) {
+            IndexedItem document = documents.get(id);
+            if (document != null && document.matches(query)) {
+                best.add(new Ranked(document, document.rank(query)));
+                if (best.size() > MAX_RESULTS) {
+                    best.poll();
+                }
+            }
+        }
+        List<Ranked> matches = new ArrayList<>(best);
+        matches.sort(RANKING);
+        return matches.stream()
+                .map(Ranked::item)
+                .toList();
+    }
+
+    private Collection<Integer> candidates(String query) {
+        List<Set<Integer>> lists = new ArrayList<>();
+        for (String gram : grams(query)) {
+            Set<Integer> list = postings.get(gram);
+            if (list == null) {
+                return List.of();
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Integer> smallest = lists.getFirst();
+        List<Set<Integer>> others = lists.subList(1, lists.size());
+        List<Integer> result = new ArrayList<>();
+        for (Integer id : smallest) {
+            if (others.stream().allMatch(list -> list.contains(id))) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    private void apply(Item item) {
+        if (Boolean.TRUE.equals(item.getAvailable())) {
+            replace(item.getId(), document(item));
+        }
+    }
+
+    private static IndexedItem document(Item item) {
+        Integer requestId = item.getRequest() != null ? item.getRequest().getId() : null;
+        return new IndexedItem(item.getId(), item.getOwner().getId(), requestId,
+                item.getName(), item.getDescription());
+    }
+
+    private void replace(Integer id, IndexedItem document) {
+        IndexedItem previous;
+        Set<String> oldGrams;
+        Set<String> newGrams;
+        synchronized (writeLock) {
+            previous = document != null ? documents.put(id, document) : documents.remove(id);
+            oldGrams = previous != null ? grams(previous) : Set.of();
+            newGrams = document != null ? grams(document) : Set.of();
+
+            for (String gram : oldGrams) {
+                if (!newGrams.contains(gram)) {
+                    Set<Integer> list = postings.get(gram);
+                    list.remove(id);
+                    if (list.isEmpty()) {
+                        postings.remove(gram);
+                    }
+                }
+            }
+            for (String gram : newGrams) {
+                if (!oldGrams.contains(gram)) {
+                    postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(id);
+                }
+            }
+
+            version.incrementAndGet();
+        }
+        evictCachedQueries(previous, oldGrams);
+        evictCachedQueries(document, newGrams);
+    }
+
+    private void evictCachedQueries(IndexedItem document, Set<String> grams) {
+        if (document != null) {
+            cachedQueries.matchedBy(document, grams).forEach(this::evict);
+        }
+    }
+
+    private void evict(String query) {
+        searchResultCache.asMap().compute(query, (key, results) -> {
+            cachedQueries.remove(key);
+            return null;
+        });
+    }
+
+    private static Set<String> grams(IndexedItem document) {
+        Set<String> grams = grams(document.getNormalizedName());
+        grams.addAll(grams(document.getNormalizedDescription()));
+        return grams;
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    private record Ranked(IndexedItem item, int rank) {
+    }
+}
@@ -1,19 +1,25 @@
 package ru.practicum.shareit.item.service;
 
 import ru.practicum.shareit.item.dto.*;
+import ru.practicum.shareit.util.KeysetCursor;
 
 import java.util.List;
+import java.util.Set;
 
 public interface ItemService {
 
     ItemResponse createItem(Integer ownerId, CreateItemRequest request);
 
-    ItemResponse updateItem(Integer ownerId, Integer itemId, UpdateItemRequest request);
+    ItemResponse updateItem(Integer ownerId, Integer itemId, UpdateItemRequest request, Set<Long> expectedVersions);
 
     GetItemResponse getItemById(Integer itemId, Integer userId);
 
     List<GetItemResponse> getAllItemsByOwner(Integer ownerId);
 
+    List<ItemSummaryResponse> getOwnerSummary(Integer ownerId);
+
+    List<CommentResponse> getItemComments(Integer itemId, KeysetCursor after, int size);
+
     List<ItemResponse> searchItems(String text);
 
     CommentResponse addComment(Integer itemId, Integer userId, CreateCommentRequest request);
@@ -1,13 +1,16 @@
 package ru.practicum.shareit.item.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
-import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.timeline.ItemBookingTimeline;
+import ru.practicum.shareit.booking.timeline.TimelineSlot;
 import ru.practicum.shareit.exception.NoAccessException;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.exception.PreconditionFailedException;
 import ru.practicum.shareit.item.dto.*;
 import ru.practicum.shareit.item.mapper.CommentMapper;
 import ru.practicum.shareit.item.mapper.ItemMapper;
@@ -15,14 +18,23 @@ import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.CommentRepository;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
+import ru.practicum.shareit.request.matching.ItemRequestMatcher;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.util.KeysetCursor;
+import ru.practicum.shareit.util.OptimisticRetry;
 
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,45 +42,64 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ItemServiceImpl implements ItemService {
 
+    private static final int COMMENTS_PER_ITEM = 20;
+    private static final int UTILISATION_DAYS = 30;
+
     private final ItemRepository itemRepository;
     private final UserRepository userRepository;
-    private final BookingRepository bookingRepository;
+    private final ItemBookingTimeline bookingTimeline;
     private final CommentRepository commentRepository;
+    private final ItemSearchIndex itemSearchIndex;
+    private final ItemRequestRepository itemRequestRepository;
+    private final ItemRequestMatcher itemRequestMatcher;
+    private final Clock clock;
+    private final OptimisticRetry optimisticRetry;
 
     @Override
     @Transactional
     public ItemResponse createItem(Integer ownerId, CreateItemRequest request) {
         User owner = findUser(ownerId);
-        Item item = ItemMapper.mapToItem(owner, request);
+        ItemRequest itemRequest = request.getRequestId() != null ? findItemRequest(request.getRequestId()) : null;
+        Item item = ItemMapper.mapToItem(owner, request, itemRequest);
         item = itemRepository.save(item);
+        itemSearchIndex.index(item);
+        itemRequestMatcher.itemSaved(item);
         return ItemMapper.mapToItemResponse(item);
     }
 
     @Override
-    @Transactional
-    public ItemResponse updateItem(Integer ownerId, Integer itemId, UpdateItemRequest request) {
-        User owner = findUser(ownerId);
-        Item existingItem = findItem(itemId);
-        validateUserIsOwner(owner.getId(), existingItem.getOwner().getId());
-        Item updatedItem = updateRequiredItemFields(existingItem, request);
-        return ItemMapper.mapToItemResponse(updatedItem);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ItemResponse updateItem(Integer ownerId, Integer itemId, UpdateItemRequest request,
+                                   Set<Long> expectedVersions) {
+        return optimisticRetry.execute(() -> {
+            User owner = findUser(ownerId);
+            Item existingItem = findItem(itemId);
+            validateUserIsOwner(owner.getId(), existingItem.getOwner().getId());
+            validateVersion(existingItem.getVersion(), expectedVersions);
+            String previousName = existingItem.getName();
+            String previousDescription = existingItem.getDescription();
+            boolean wasAvailable = Boolean.TRUE.equals(existingItem.getAvailable());
+            Item updatedItem = updateRequiredItemFields(existingItem, request);
+            itemSearchIndex.index(updatedItem);
+            itemRequestMatcher.itemUpdated(updatedItem, previousName, previousDescription, wasAvailable);
+            return ItemMapper.mapToItemResponse(updatedItem);
+        });
     }
 
     @Override
     public GetItemResponse getItemById(Integer itemId, Integer userId) {
         Item item = findItemWithOwner(itemId);
-        List<Comment> comments = commentRepository.findByItemId(itemId);
-        List<CommentResponse> commentResponses = comments.stream()
-                .map(CommentMapper::mapToCommentResponse)
-                .toList();
+        List<CommentView> comments = commentRepository.findViewsByItemId(itemId, Limit.of(COMMENTS_PER_ITEM + 1));
         if (item.getOwner().getId().equals(userId)) {
-            LocalDateTime now = LocalDateTime.now();
-            Booking lastBooking = bookingRepository.findLastBookingForItemWithBooker(itemId, now);
-            Booking nextBooking = bookingRepository.findNextBookingForItemWithBooker(itemId, now);
+            LocalDateTime now = LocalDateTime.now(clock);
+            TimelineSlot lastBooking = bookingTimeline.findLast(itemId, now).orElse(null);
+            TimelineSlot nextBooking = bookingTimeline.findNext(itemId, now).orElse(null);
 
-            return ItemMapper.mapToGetItemResponse(item, lastBooking, nextBooking, commentResponses);
+            return ItemMapper.mapToGetItemResponse(item, lastBooking, nextBooking,
+                    firstComments(comments), nextCommentsCursor(comments));
         } else {
-            return ItemMapper.mapToGetItemResponse(item, null, null, commentResponses);
+            return ItemMapper.mapToGetItemResponse(item, null, null,
+                    firstComments(comments), nextCommentsCursor(comments));
         }
     }
 
@@ -86,40 +117,70 @@ public class ItemServiceImpl implements ItemService {
                 .map(Item::getId)
                 .collect(Collectors.toList());
 
-        Map<Integer, List<CommentResponse>> commentsByItem = commentRepository.findByItemIdIn(itemIds)
+        Map<Integer, List<CommentView>> commentsByItem = commentRepository
+                .findViewsByItemIdIn(itemIds, COMMENTS_PER_ITEM + 1)
                 .stream()
-                .collect(Collectors.groupingBy(
-                        comment -> comment.getItem().getId(),
-                        Collectors.mapping(CommentMapper::mapToCommentResponse, Collectors.toList())
-                ));
+                .collect(Collectors.groupingBy(CommentView::getItemId));
 
-        LocalDateTime now = LocalDateTime.now();
-        Map<Integer, Booking> lastBookingsMap = bookingRepository.findLastBookingsForItems(itemIds, now)
-                .stream()
-                .collect(Collectors.toMap(b -> b.getItem().getId(), Function.identity()));
-        Map<Integer, Booking> nextBookingsMap = bookingRepository.findNextBookingsForItems(itemIds, now)
-                .stream()
-                .collect(Collectors.toMap(b -> b.getItem().getId(), Function.identity()));
+        LocalDateTime now = LocalDateTime.now(clock);
 
         return items.stream()
                 .map(item -> {
-                    List<CommentResponse> itemComments = commentsByItem.getOrDefault(item.getId(), Collections.emptyList());
-                    Booking lastBooking = lastBookingsMap.get(item.getId());
-                    Booking nextBooking = nextBookingsMap.get(item.getId());
+                    List<CommentView> itemComments = commentsByItem.getOrDefault(item.getId(), Collections.emptyList());
+                    TimelineSlot lastBooking = bookingTimeline.findLast(item.getId(), now).orElse(null);
+                    TimelineSlot nextBooking = bookingTimeline.findNext(item.getId(), now).orElse(null);
 
                     return ItemMapper.mapToGetItemResponse(
                             item,
                             lastBooking,
                             nextBooking,
-                            itemComments
+                            firstComments(itemComments),
+                            nextCommentsCursor(itemComments)
                     );
                 })
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<ItemSummaryResponse> getOwnerSummary(Integer ownerId) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime from = now.minusDays(UTILISATION_DAYS);
+        List<ItemSummaryView> summaries = itemRepository.findSummariesByOwnerId(ownerId, now, from);
+        if (summaries.isEmpty() && !userRepository.existsById(ownerId)) {
+            throw new NotFoundException("User not found with ID: " + ownerId);
+        }
+        double windowSeconds = Duration.ofDays(UTILISATION_DAYS).toSeconds();
+
+        return summaries.stream()
+                .map(summary -> {
+                    BigDecimal bookedSeconds = summary.getBookedSeconds();
+                    double utilisation = bookedSeconds != null
+                            ? Math.round(bookedSeconds.doubleValue() / windowSeconds * 1000) / 10.0
+                            : 0;
+                    return ItemMapper.mapToItemSummaryResponse(summary,
+                            bookingTimeline.findLast(summary.getId(), now).orElse(null),
+                            bookingTimeline.findNext(summary.getId(), now).orElse(null),
+                            utilisation, UTILISATION_DAYS);
+                })
+                .toList();
+    }
+
+    @Override
+    public List<CommentResponse> getItemComments(Integer itemId, KeysetCursor after, int size) {
+        if (!itemRepository.existsById(itemId)) {
+            throw new NotFoundException("Item not found with ID: " + itemId);
+        }
+        List<CommentView> comments = after == null
+                ? commentRepository.findViewsByItemId(itemId, Limit.of(size))
+                : commentRepository.findViewsByItemIdAfter(itemId, after.getTimestamp(), after.getId(), Limit.of(size));
+        return comments.stream()
+                .map(CommentMapper::mapToCommentResponse)
+                .toList();
+    }
+
     @Override
     public List<ItemResponse> searchItems(String text) {
-        return itemRepository.searchAvailableItems(text).stream()
+        return itemSearchIndex.search(text).stream()
                 .map(ItemMapper::mapToItemResponse)
                 .collect(Collectors.toList());
     }
@@ -132,14 +193,14 @@ public class ItemServiceImpl implements ItemService {
 
         validateUserRentedItem(userId, itemId);
 
-        Comment comment = CommentMapper.mapToComment(request, item, author);
+        Comment comment = CommentMapper.mapToComment(request, item, author, LocalDateTime.now(clock));
         comment = commentRepository.save(comment);
 
         return CommentMapper.mapToCommentResponse(comment);
     }
 
     private void validateUserRentedItem(Integer userId, Integer itemId) {
-        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime now = LocalDateTime.now(clock);
         boolean hasRented = commentRepository.existsApprovedBookingForUserAndItem(itemId, userId, now, BookingStatus.APPROVED);
 
         if (!hasRented) {
@@ -147,6 +208,21 @@ public class ItemServiceImpl implements ItemService {
         }
     }
 
+    private static List<CommentResponse> firstComments(List<CommentView> comments) {
+        return comments.stream()
+                .limit(COMMENTS_PER_ITEM)
+                .map(CommentMapper::mapToCommentResponse)
+                .toList();
+    }
+
+    private static String nextCommentsCursor(List<CommentView> comments) {
+        if (comments.size() <= COMMENTS_PER_ITEM) {
+            return null;
+        }
+        CommentView last = comments.get(COMMENTS_PER_ITEM - 1);
+        return new KeysetCursor(last.getCreated(), last.getId()).encode();
+    }
+
     private User findUser(Integer ownerId) {
         return userRepository.findById(ownerId)
                 .orElseThrow(() -> new NotFoundException("User not found with ID: " + ownerId));
@@ -157,12 +233,23 @@ public class ItemServiceImpl implements ItemService {
                 .orElseThrow(() -> new NotFoundException("Item not found with ID: " + itemId));
     }
 
+    private ItemRequest findItemRequest(Integer requestId) {
+        return itemRequestRepository.findById(requestId)
+                .orElseThrow(() -> new NotFoundException("Item request not found with ID: " + requestId));
+    }
+
     private void validateUserIsOwner(Integer userId, Integer ownerId) {
         if (!userId.equals(ownerId)) {
             throw new NoAccessException("User is not the owner of item");
         }
     }
 
+    private void validateVersion(Long version, Set<Long> expectedVersions) {
+        if (expectedVersions != null && !expectedVersions.contains(version)) {
+            throw new PreconditionFailedException("Item has been modified since it was read");
+        }
+    }
+
     private Item updateRequiredItemFields(Item existingItem, UpdateItemRequest request) {
         if (request.getName() != null && !request.getName().isBlank()) {
             existingItem.setName(request.getName());
@@ -174,7 +261,7 @@ public class ItemServiceImpl implements ItemService {
             existingItem.setAvailable(request.getAvailable());
         }
 
-        return itemRepository.save(existingItem);
+        return itemRepository.saveAndFlush(existingItem);
     }
 
     private Item findItemWithOwner(Integer itemId) {
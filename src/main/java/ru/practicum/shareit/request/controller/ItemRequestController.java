@@ -0,0 +1,65 @@
+package ru.practicum.shareit.request.controller;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.request.dto.CreateItemRequestDto;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.service.ItemRequestService;
+import ru.practicum.shareit.util.KeysetCursor;
+
+import java.util.List;
+
+@Validated
+@RestController
+@RequestMapping(path = "/requests")
+@RequiredArgsConstructor
+public class ItemRequestController {
+
+    private final ItemRequestService itemRequestService;
+    private static final String USER_ID_HEADER = "X-Sharer-User-Id";
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    @PostMapping
+    public ItemRequestDto createRequest(
+            @NotNull @Positive @RequestHeader(USER_ID_HEADER) Integer userId,
+            @Valid @RequestBody CreateItemRequestDto request) {
+        return itemRequestService.createRequest(userId, request);
+    }
+
+    @GetMapping
+    public List<ItemRequestDto> getOwnRequests(
+            @NotNull @Positive @RequestHeader(USER_ID_HEADER) Integer userId) {
+        return itemRequestService.getOwnRequests(userId);
+    }
+
+    @GetMapping("/all")
+    public ResponseEntity<List<ItemRequestDto>> getOtherRequests(
+            @NotNull @Positive @RequestHeader(USER_ID_HEADER) Integer userId,
+            @RequestParam(required = false) String cursor,
+            @Positive @Max(MAX_PAGE_SIZE) @RequestParam(required = false) Integer size) {
+        int pageSize = size != null ? size : DEFAULT_PAGE_SIZE;
+        List<ItemRequestDto> page = itemRequestService.getOtherRequests(userId, KeysetCursor.decode(cursor), pageSize);
+        if (page.size() < pageSize) {
+            return ResponseEntity.ok(page);
+        }
+        ItemRequestDto last = page.getLast();
+        return ResponseEntity.ok()
+                .header(NEXT_CURSOR_HEADER, new KeysetCursor(last.getCreated(), last.getId()).encode())
+                .body(page);
+    }
+
+    @GetMapping("/{requestId}")
+    public ItemRequestDto getRequestById(
+            @NotNull @Positive @RequestHeader(USER_ID_HEADER) Integer userId,
+            @NotNull @Positive @PathVariable Integer requestId) {
+        return itemRequestService.getRequestById(userId, requestId);
+    }
+}
@@ -0,0 +1,19 @@
+package ru.practicum.shareit.request.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateItemRequestDto {
+
+    @NotBlank(message = "Description must not be empty")
+    @Size(max = 1000, message = "Description must be at most 1000 characters")
+    private String description;
+}
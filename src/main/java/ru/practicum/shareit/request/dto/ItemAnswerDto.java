@@ -0,0 +1,12 @@
+package ru.practicum.shareit.request.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class ItemAnswerDto {
+    private Integer id;
+    private String name;
+    private Integer ownerId;
+}
@@ -0,0 +1,12 @@
+package ru.practicum.shareit.request.dto;
+
+public interface ItemAnswerView {
+
+    Integer getRequestId();
+
+    Integer getId();
+
+    String getName();
+
+    Integer getOwnerId();
+}
@@ -1,7 +1,16 @@
 package ru.practicum.shareit.request.dto;
 
-/**
- * TODO Sprint add-item-requests.
- */
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
 public class ItemRequestDto {
+    private Integer id;
+    private String description;
+    private LocalDateTime created;
+    private List<ItemAnswerDto> items;
 }
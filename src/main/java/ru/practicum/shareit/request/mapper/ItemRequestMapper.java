@@ -0,0 +1,44 @@
+package ru.practicum.shareit.request.mapper;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import ru.practicum.shareit.request.dto.CreateItemRequestDto;
+import ru.practicum.shareit.request.dto.ItemAnswerDto;
+import ru.practicum.shareit.request.dto.ItemAnswerView;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ItemRequestMapper {
+
+    public static ItemRequest mapToItemRequest(CreateItemRequestDto request, User requester, LocalDateTime created) {
+        return ItemRequest.builder()
+                .description(request.getDescription())
+                .requester(requester)
+                .created(created)
+                .build();
+    }
+
+    public static ItemRequestDto mapToItemRequestDto(ItemRequest request, List<ItemAnswerView> answers) {
+        return ItemRequestDto.builder()
+                .id(request.getId())
+                .description(request.getDescription())
+                .created(request.getCreated())
+                .items(answers.stream()
+                        .map(ItemRequestMapper::mapToItemAnswerDto)
+                        .toList())
+                .build();
+    }
+
+    private static ItemAnswerDto mapToItemAnswerDto(ItemAnswerView answer) {
+        return ItemAnswerDto.builder()
+                .id(answer.getId())
+                .name(answer.getName())
+                .ownerId(answer.getOwnerId())
+                .build();
+    }
+}
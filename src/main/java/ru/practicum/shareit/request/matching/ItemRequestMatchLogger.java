@@ -0,0 +1,16 @@
+package ru.practicum.shareit.request.matching;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class ItemRequestMatchLogger {
+
+    @EventListener
+    public void onMatch(ItemRequestMatchedEvent event) {
+        log.info("Item {} of user {} matches request {} of user {}",
+                event.getItemId(), event.getOwnerId(), event.getRequestId(), event.getRequesterId());
+    }
+}
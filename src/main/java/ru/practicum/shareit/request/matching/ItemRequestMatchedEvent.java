@@ -0,0 +1,20 @@
+package ru.practicum.shareit.request.matching;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A new or updated item shares enough keywords with an open request of another user.
+ * Published asynchronously after the item is committed.
+ */
+@Getter
+@Builder
+@ToString
+public class ItemRequestMatchedEvent {
+    private final Integer requestId;
+    private final Integer requesterId;
+    private final Integer itemId;
+    private final Integer ownerId;
+    private final String itemName;
+}
@@ -0,0 +1,118 @@
+package ru.practicum.shareit.request.matching;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.config.ItemRequestMatchingProperties;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.util.TransactionCallbacks;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps {@link OpenRequestIndex} in step with committed requests and items, and matches
+ * every saved item against it on a small bounded pool, off the request thread. When the
+ * queue is full the match is dropped and counted rather than slowing down the writer.
+ */
+@Slf4j
+@Component
+public class ItemRequestMatcher {
+
+    private static final String MATCHES_METRIC = "shareit.request.matches";
+    private static final String DROPPED_METRIC = "shareit.request.matching.dropped";
+
+    private final OpenRequestIndex openRequestIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor;
+
+    public ItemRequestMatcher(OpenRequestIndex openRequestIndex, ApplicationEventPublisher eventPublisher,
+                              MeterRegistry meterRegistry, ItemRequestMatchingProperties properties) {
+        this.openRequestIndex = openRequestIndex;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(properties.getThreads(), properties.getThreads(),
+                0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                Thread.ofPlatform().name("request-matcher-", 0).daemon().factory(),
+                (task, rejectedBy) -> meterRegistry.counter(DROPPED_METRIC).increment());
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "request-matcher");
+    }
+
+    public void requestSaved(ItemRequest request) {
+        TransactionCallbacks.afterCommit(() -> openRequestIndex.add(request));
+    }
+
+    public void itemSaved(Item item) {
+        Integer answeredRequestId = item.getRequest() != null ? item.getRequest().getId() : null;
+        boolean available = Boolean.TRUE.equals(item.getAvailable());
+        Runnable matching = matching(item);
+
+        TransactionCallbacks.afterCommit(() -> {
+            if (answeredRequestId != null) {
+                openRequestIndex.remove(answeredRequestId);
+            }
+            if (available) {
+                executor.execute(matching);
+            }
+        });
+    }
+
+    /**
+     * Matches an updated item again only if its text changed or it became available:
+     * otherwise every request it matches has already been notified about it.
+     */
+    public void itemUpdated(Item item, String previousName, String previousDescription, boolean wasAvailable) {
+        if (!Boolean.TRUE.equals(item.getAvailable())) {
+            return;
+        }
+        boolean textChanged = !item.getName().equals(previousName)
+                || !item.getDescription().equals(previousDescription);
+        if (textChanged || !wasAvailable) {
+            Runnable matching = matching(item);
+            TransactionCallbacks.afterCommit(() -> executor.execute(matching));
+        }
+    }
+
+    public void removeByRequester(Integer requesterId) {
+        openRequestIndex.removeByRequester(requesterId);
+    }
+
+    private Runnable matching(Item item) {
+        Integer itemId = item.getId();
+        Integer ownerId = item.getOwner().getId();
+        String name = item.getName();
+        String text = item.getName() + " " + item.getDescription();
+        return () -> match(itemId, ownerId, name, text);
+    }
+
+    private void match(Integer itemId, Integer ownerId, String name, String text) {
+        try {
+            List<OpenRequest> matched = openRequestIndex.match(ownerId, text);
+            for (OpenRequest request : matched) {
+                eventPublisher.publishEvent(ItemRequestMatchedEvent.builder()
+                        .requestId(request.id())
+                        .requesterId(request.requesterId())
+                        .itemId(itemId)
+                        .ownerId(ownerId)
+                        .itemName(name)
+                        .build());
+            }
+            meterRegistry.counter(MATCHES_METRIC).increment(matched.size());
+        } catch (RuntimeException e) {
+            log.warn("Matching item {} against open requests failed", itemId, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,6 @@
+package ru.practicum.shareit.request.matching;
+
+import java.util.Set;
+
+record OpenRequest(Integer id, Integer requesterId, Set<String> keywords) {
+}
@@ -0,0 +1,114 @@
+package ru.practicum.shareit.request.matching;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.config.ItemRequestMatchingProperties;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Inverted index from description keywords to open (not yet answered) item requests.
+ * An item is matched by looking up only its own keywords, so the cost follows the item
+ * text, not the number of open requests. A request matches when the item covers at least
+ * {@code minKeywordShare} of its keywords; keywords shared by more than {@code maxPostings}
+ * requests ("need", "нужна") are too common to discriminate and are skipped on lookup.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OpenRequestIndex implements SmartInitializingSingleton {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final int MIN_KEYWORD_LENGTH = 3;
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final ItemRequestRepository itemRequestRepository;
+    private final ItemRequestMatchingProperties properties;
+
+    private final Map<Integer, OpenRequest> requests = new ConcurrentHashMap<>();
+    private final Map<String, Set<Integer>> postings = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Integer lastId = 0;
+        List<ItemRequest> batch;
+        do {
+            batch = itemRequestRepository.findOpenAfter(lastId, Limit.of(LOAD_BATCH_SIZE));
+            batch.forEach(this::add);
+            if (!batch.isEmpty()) {
+                lastId = batch.getLast().getId();
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+        log.info("Open request index loaded with {} requests", requests.size());
+    }
+
+    public void add(ItemRequest request) {
+        Set<String> keywords = keywords(request.getDescription());
+        if (keywords.isEmpty()) {
+            return;
+        }
+        OpenRequest open = new OpenRequest(request.getId(), request.getRequester().getId(), keywords);
+        requests.put(open.id(), open);
+        keywords.forEach(keyword -> postings.computeIfAbsent(keyword, k -> ConcurrentHashMap.newKeySet()).add(open.id()));
+    }
+
+    public void remove(Integer requestId) {
+        OpenRequest open = requests.remove(requestId);
+        if (open != null) {
+            open.keywords().forEach(keyword -> postings.computeIfPresent(keyword, (k, ids) -> {
+                ids.remove(requestId);
+                return ids.isEmpty() ? null : ids;
+            }));
+        }
+    }
+
+    public void removeByRequester(Integer requesterId) {
+        requests.values().stream()
+                .filter(open -> open.requesterId().equals(requesterId))
+                .map(OpenRequest::id)
+                .toList()
+                .forEach(this::remove);
+    }
+
+    List<OpenRequest> match(Integer ownerId, String text) {
+        Map<Integer, Integer> hits = new HashMap<>();
+        for (String keyword : keywords(text)) {
+            Set<Integer> ids = postings.get(keyword);
+            if (ids != null && ids.size() <= properties.getMaxPostings()) {
+                ids.forEach(id -> hits.merge(id, 1, Integer::sum));
+            }
+        }
+        return hits.entrySet().stream()
+                .map(hit -> {
+                    OpenRequest open = requests.get(hit.getKey());
+                    boolean matches = open != null && !open.requesterId().equals(ownerId)
+                            && hit.getValue() >= Math.ceil(open.keywords().size() * properties.getMinKeywordShare());
+                    return matches ? open : null;
+                })
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static Set<String> keywords(String text) {
+        if (text == null) {
+            return Set.of();
+        }
+        return Arrays.stream(SEPARATORS.split(text.toLowerCase(Locale.ROOT)))
+                .filter(word -> word.length() >= MIN_KEYWORD_LENGTH)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,33 @@
+package ru.practicum.shareit.request.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.request.model.ItemRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ItemRequestRepository extends JpaRepository<ItemRequest, Integer> {
+
+    @Query("SELECT r FROM ItemRequest r WHERE r.requester.id = :requesterId ORDER BY r.created DESC, r.id DESC")
+    List<ItemRequest> findByRequesterId(@Param("requesterId") Integer requesterId);
+
+    @Query("SELECT r FROM ItemRequest r WHERE r.id > :id " +
+            "AND NOT EXISTS (SELECT i.id FROM Item i WHERE i.request = r) ORDER BY r.id")
+    List<ItemRequest> findOpenAfter(@Param("id") Integer id, Limit limit);
+
+    @Query("SELECT r FROM ItemRequest r WHERE r.requester.id <> :userId ORDER BY r.created DESC, r.id DESC")
+    List<ItemRequest> findOthers(@Param("userId") Integer userId, Limit limit);
+
+    @Query("SELECT r FROM ItemRequest r WHERE r.requester.id <> :userId " +
+            "AND r.created <= :created AND (r.created < :created OR r.id < :id) " +
+            "ORDER BY r.created DESC, r.id DESC")
+    List<ItemRequest> findOthersAfter(@Param("userId") Integer userId,
+                                      @Param("created") LocalDateTime created,
+                                      @Param("id") Integer id,
+                                      Limit limit);
+}
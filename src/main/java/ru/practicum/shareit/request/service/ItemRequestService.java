@@ -0,0 +1,18 @@
+package ru.practicum.shareit.request.service;
+
+import ru.practicum.shareit.request.dto.CreateItemRequestDto;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.util.KeysetCursor;
+
+import java.util.List;
+
+public interface ItemRequestService {
+
+    ItemRequestDto createRequest(Integer userId, CreateItemRequestDto request);
+
+    List<ItemRequestDto> getOwnRequests(Integer userId);
+
+    List<ItemRequestDto> getOtherRequests(Integer userId, KeysetCursor after, int size);
+
+    ItemRequestDto getRequestById(Integer userId, Integer requestId);
+}
@@ -0,0 +1,95 @@
+package ru.practicum.shareit.request.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.request.dto.CreateItemRequestDto;
+import ru.practicum.shareit.request.dto.ItemAnswerView;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.mapper.ItemRequestMapper;
+import ru.practicum.shareit.request.matching.ItemRequestMatcher;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.util.KeysetCursor;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ItemRequestServiceImpl implements ItemRequestService {
+
+    private final ItemRequestRepository itemRequestRepository;
+    private final ItemRepository itemRepository;
+    private final UserRepository userRepository;
+    private final ItemRequestMatcher itemRequestMatcher;
+    private final Clock clock;
+
+    @Override
+    @Transactional
+    public ItemRequestDto createRequest(Integer userId, CreateItemRequestDto request) {
+        User requester = userRepository.findById(userId)
+                .orElseThrow(() -> new NotFoundException("User not found with ID: " + userId));
+        ItemRequest itemRequest = ItemRequestMapper.mapToItemRequest(request, requester, LocalDateTime.now(clock));
+        itemRequest = itemRequestRepository.save(itemRequest);
+        itemRequestMatcher.requestSaved(itemRequest);
+        return ItemRequestMapper.mapToItemRequestDto(itemRequest, List.of());
+    }
+
+    @Override
+    public List<ItemRequestDto> getOwnRequests(Integer userId) {
+        validateUserExists(userId);
+        return withAnswers(itemRequestRepository.findByRequesterId(userId));
+    }
+
+    @Override
+    public List<ItemRequestDto> getOtherRequests(Integer userId, KeysetCursor after, int size) {
+        validateUserExists(userId);
+        List<ItemRequest> requests = after == null
+                ? itemRequestRepository.findOthers(userId, Limit.of(size))
+                : itemRequestRepository.findOthersAfter(userId, after.getTimestamp(), after.getId(), Limit.of(size));
+        return withAnswers(requests);
+    }
+
+    @Override
+    public ItemRequestDto getRequestById(Integer userId, Integer requestId) {
+        validateUserExists(userId);
+        ItemRequest request = itemRequestRepository.findById(requestId)
+                .orElseThrow(() -> new NotFoundException("Item request not found with ID: " + requestId));
+        return ItemRequestMapper.mapToItemRequestDto(request,
+                itemRepository.findAnswersByRequestIdIn(List.of(requestId)));
+    }
+
+    private List<ItemRequestDto> withAnswers(List<ItemRequest> requests) {
+        if (requests.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Integer> requestIds = requests.stream()
+                .map(ItemRequest::getId)
+                .toList();
+        Map<Integer, List<ItemAnswerView>> answersByRequest = itemRepository.findAnswersByRequestIdIn(requestIds)
+                .stream()
+                .collect(Collectors.groupingBy(ItemAnswerView::getRequestId));
+
+        return requests.stream()
+                .map(request -> ItemRequestMapper.mapToItemRequestDto(request,
+                        answersByRequest.getOrDefault(request.getId(), Collections.emptyList())))
+                .toList();
+    }
+
+    private void validateUserExists(Integer userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new NotFoundException("User not found with ID: " + userId);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package ru.practicum.shareit.transfer;
+
+/**
+ * One input row: either a parsed value or the reason it could not be parsed.
+ */
+public record ParsedRow<T>(long line, T value, String error) {
+
+    static <T> ParsedRow<T> of(long line, T value) {
+        return new ParsedRow<>(line, value, null);
+    }
+
+    static <T> ParsedRow<T> failed(long line, String error) {
+        return new ParsedRow<>(line, null, error);
+    }
+}
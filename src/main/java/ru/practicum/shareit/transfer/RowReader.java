@@ -0,0 +1,12 @@
+package ru.practicum.shareit.transfer;
+
+/**
+ * Pulls rows from an import body one at a time, so the body is never held in memory.
+ */
+public interface RowReader<T> {
+
+    /**
+     * @return the next row, or {@code null} when the input is exhausted
+     */
+    ParsedRow<T> next();
+}
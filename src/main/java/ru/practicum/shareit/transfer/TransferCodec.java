@@ -0,0 +1,122 @@
+package ru.practicum.shareit.transfer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads and writes NDJSON and CSV (with a header row) one row at a time. A row that cannot
+ * be mapped is reported and skipped; malformed CSV that the parser cannot resync past ends
+ * the input with an error row.
+ */
+@Component
+public class TransferCodec {
+
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper;
+
+    public TransferCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.csvMapper = CsvMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .enable(CsvParser.Feature.TRIM_SPACES)
+                .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+                .build();
+    }
+
+    public <T> RowReader<T> reader(TransferFormat format, Class<T> type, InputStream input) {
+        return format == TransferFormat.CSV ? csvReader(type, input) : ndjsonReader(type, input);
+    }
+
+    public SequenceWriter writer(TransferFormat format, Class<?> type, OutputStream output) throws IOException {
+        if (format == TransferFormat.CSV) {
+            return csvMapper.writer(csvMapper.schemaFor(type).withHeader()).writeValues(output);
+        }
+        return objectMapper.writerFor(type).withRootValueSeparator("\n").writeValues(output);
+    }
+
+    private <T> RowReader<T> ndjsonReader(Class<T> type, InputStream input) {
+        BufferedReader lines = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        return new RowReader<>() {
+            private long lineNumber;
+
+            @Override
+            public ParsedRow<T> next() {
+                try {
+                    String line;
+                    while ((line = lines.readLine()) != null) {
+                        lineNumber++;
+                        if (!line.isBlank()) {
+                            return parse(line);
+                        }
+                    }
+                    return null;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            private ParsedRow<T> parse(String line) {
+                try {
+                    return ParsedRow.of(lineNumber, objectMapper.readValue(line, type));
+                } catch (JsonProcessingException e) {
+                    return ParsedRow.failed(lineNumber, e.getOriginalMessage());
+                }
+            }
+        };
+    }
+
+    private <T> RowReader<T> csvReader(Class<T> type, InputStream input) {
+        MappingIterator<T> rows;
+        try {
+            rows = csvMapper.readerFor(type)
+                    .with(CsvSchema.emptySchema().withHeader())
+                    .readValues(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new RowReader<>() {
+            private boolean finished;
+
+            @Override
+            public ParsedRow<T> next() {
+                if (finished) {
+                    return null;
+                }
+                long line = rows.getCurrentLocation().getLineNr();
+                try {
+                    if (!rows.hasNextValue()) {
+                        return null;
+                    }
+                    line = rows.getCurrentLocation().getLineNr();
+                    return ParsedRow.of(line, rows.nextValue());
+                } catch (JsonMappingException e) {
+                    return ParsedRow.failed(line, e.getOriginalMessage());
+                } catch (JsonProcessingException e) {
+                    finished = true;
+                    return ParsedRow.failed(line, "Malformed CSV, import stopped: " + e.getOriginalMessage());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package ru.practicum.shareit.transfer;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+@Getter
+@RequiredArgsConstructor
+public enum TransferFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON),
+    CSV(MediaType.parseMediaType(TransferFormat.TEXT_CSV_VALUE));
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final MediaType mediaType;
+
+    /**
+     * CSV when any of the given media types is {@code text/csv}, NDJSON otherwise.
+     */
+    public static TransferFormat of(String mediaTypes) {
+        if (mediaTypes != null && MediaType.parseMediaTypes(mediaTypes).stream()
+                .anyMatch(CSV.mediaType::includes)) {
+            return CSV;
+        }
+        return NDJSON;
+    }
+}
@@ -0,0 +1,70 @@
+package ru.practicum.shareit.transfer.controller;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.practicum.shareit.transfer.TransferFormat;
+import ru.practicum.shareit.transfer.dto.ImportReport;
+import ru.practicum.shareit.transfer.service.TransferService;
+
+import java.io.InputStream;
+
+/**
+ * Bulk import and export of the caller's items and of bookings of their items, as NDJSON
+ * or CSV with a header row. The format follows {@code Content-Type} on import and
+ * {@code Accept} on export, NDJSON by default.
+ */
+@Validated
+@RestController
+@RequiredArgsConstructor
+public class TransferController {
+
+    private static final String USER_ID_HEADER = "X-Sharer-User-Id";
+
+    private final TransferService transferService;
+
+    @PostMapping(path = "/items/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, TransferFormat.TEXT_CSV_VALUE})
+    public ImportReport importItems(
+            @NotNull @Positive @RequestHeader(USER_ID_HEADER) Integer ownerId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        return transferService.importItems(ownerId, TransferFormat.of(contentType), body);
+    }
+
+    @GetMapping(path = "/items/export", produces = {MediaType.APPLICATION_NDJSON_VALUE, TransferFormat.TEXT_CSV_VALUE})
+    public ResponseEntity<StreamingResponseBody> exportItems(
+            @NotNull @Positive @RequestHeader(USER_ID_HEADER) Integer ownerId,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        TransferFormat format = TransferFormat.of(accept);
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .body(transferService.exportItems(ownerId, format));
+    }
+
+    @PostMapping(path = "/bookings/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, TransferFormat.TEXT_CSV_VALUE})
+    public ImportReport importBookings(
+            @NotNull @Positive @RequestHeader(USER_ID_HEADER) Integer ownerId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        return transferService.importBookings(ownerId, TransferFormat.of(contentType), body);
+    }
+
+    @GetMapping(path = "/bookings/export", produces = {MediaType.APPLICATION_NDJSON_VALUE, TransferFormat.TEXT_CSV_VALUE})
+    public ResponseEntity<StreamingResponseBody> exportBookings(
+            @NotNull @Positive @RequestHeader(USER_ID_HEADER) Integer ownerId,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        TransferFormat format = TransferFormat.of(accept);
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .body(transferService.exportBookings(ownerId, format));
+    }
+}
@@ -0,0 +1,32 @@
+package ru.practicum.shareit.transfer.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import ru.practicum.shareit.booking.model.BookingStatus;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonPropertyOrder({"id", "itemId", "bookerId", "start", "end", "status"})
+public class BookingTransferRow {
+    private Integer id;
+    @NotNull(message = "Item ID cannot be empty")
+    @Positive
+    private Integer itemId;
+    @NotNull(message = "Booker ID cannot be empty")
+    @Positive
+    private Integer bookerId;
+    @NotNull(message = "Start date cannot be empty")
+    private LocalDateTime start;
+    @NotNull(message = "End date cannot be empty")
+    private LocalDateTime end;
+    private BookingStatus status;
+}
@@ -0,0 +1,13 @@
+package ru.practicum.shareit.transfer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class ImportError {
+    private long line;
+    private String message;
+}
@@ -0,0 +1,14 @@
+package ru.practicum.shareit.transfer.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class ImportReport {
+    private long imported;
+    private long failed;
+    private List<ImportError> errors;
+}
@@ -0,0 +1,24 @@
+package ru.practicum.shareit.transfer.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonPropertyOrder({"id", "name", "description", "available"})
+public class ItemTransferRow {
+    private Integer id;
+    @NotBlank(message = "Name must not be empty")
+    private String name;
+    @NotBlank(message = "Description must not be empty")
+    private String description;
+    @NotNull(message = "Available must not be null")
+    private Boolean available;
+}
@@ -0,0 +1,33 @@
+package ru.practicum.shareit.transfer.mapper;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.transfer.dto.BookingTransferRow;
+import ru.practicum.shareit.transfer.dto.ItemTransferRow;
+import ru.practicum.shareit.user.model.User;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TransferMapper {
+
+    public static Item mapToItem(ItemTransferRow row, User owner) {
+        return Item.builder()
+                .name(row.getName())
+                .description(row.getDescription())
+                .available(row.getAvailable())
+                .owner(owner)
+                .build();
+    }
+
+    public static Booking mapToBooking(BookingTransferRow row, User owner) {
+        return Booking.builder()
+                .item(Item.builder().id(row.getItemId()).owner(owner).build())
+                .booker(User.builder().id(row.getBookerId()).build())
+                .status(row.getStatus() != null ? row.getStatus() : BookingStatus.WAITING)
+                .start(row.getStart())
+                .end(row.getEnd())
+                .build();
+    }
+}
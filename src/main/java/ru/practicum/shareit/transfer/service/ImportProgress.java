@@ -0,0 +1,39 @@
+package ru.practicum.shareit.transfer.service;
+
+import ru.practicum.shareit.transfer.dto.ImportError;
+import ru.practicum.shareit.transfer.dto.ImportReport;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class ImportProgress {
+
+    private final int maxReportedErrors;
+    private final List<ImportError> errors = new ArrayList<>();
+    private long imported;
+    private long failed;
+
+    ImportProgress(int maxReportedErrors) {
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    void imported(int rows) {
+        imported += rows;
+    }
+
+    void failed(long line, String message) {
+        failed++;
+        if (errors.size() < maxReportedErrors) {
+            errors.add(new ImportError(line, message));
+        }
+    }
+
+    ImportReport toReport() {
+        errors.sort((first, second) -> Long.compare(first.getLine(), second.getLine()));
+        return ImportReport.builder()
+                .imported(imported)
+                .failed(failed)
+                .errors(errors)
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package ru.practicum.shareit.transfer.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.practicum.shareit.transfer.TransferFormat;
+import ru.practicum.shareit.transfer.dto.ImportReport;
+
+import java.io.InputStream;
+
+public interface TransferService {
+
+    ImportReport importItems(Integer ownerId, TransferFormat format, InputStream input);
+
+    ImportReport importBookings(Integer ownerId, TransferFormat format, InputStream input);
+
+    StreamingResponseBody exportItems(Integer ownerId, TransferFormat format);
+
+    StreamingResponseBody exportBookings(Integer ownerId, TransferFormat format);
+}
@@ -0,0 +1,338 @@
+package ru.practicum.shareit.transfer.service;
+
+import com.fasterxml.jackson.databind.SequenceWriter;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.outbox.BookingEventType;
+import ru.practicum.shareit.booking.outbox.BookingOutbox;
+import ru.practicum.shareit.booking.timeline.BookingAdmission;
+import ru.practicum.shareit.booking.timeline.ItemBookingTimeline;
+import ru.practicum.shareit.config.TransferProperties;
+import ru.practicum.shareit.exception.ConflictException;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
+import ru.practicum.shareit.request.matching.ItemRequestMatcher;
+import ru.practicum.shareit.transfer.ParsedRow;
+import ru.practicum.shareit.transfer.RowReader;
+import ru.practicum.shareit.transfer.TransferCodec;
+import ru.practicum.shareit.transfer.TransferFormat;
+import ru.practicum.shareit.transfer.dto.BookingTransferRow;
+import ru.practicum.shareit.transfer.dto.ImportReport;
+import ru.practicum.shareit.transfer.dto.ItemTransferRow;
+import ru.practicum.shareit.transfer.mapper.TransferMapper;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk import and export of items and bookings. Imports read the body row by row and insert
+ * valid rows in chunks with JDBC batching, one transaction per chunk; a chunk the database
+ * rejects is retried row by row to find the offending rows. Exports stream rows from a
+ * read-only transaction with a bounded fetch size, so the result stays in the database cursor.
+ */
+@Service
+public class TransferServiceImpl implements TransferService {
+
+    private static final String INSERT_ITEM_SQL = "INSERT INTO items (name, description, available, owner_id) " +
+            "VALUES (?, ?, ?, ?)";
+    private static final String INSERT_BOOKING_SQL = "INSERT INTO bookings " +
+            "(item_id, booker_id, status, start_date, end_date) VALUES (?, ?, ?, ?, ?)";
+    private static final String EXPORT_ITEMS_SQL = "SELECT id, name, description, available FROM items " +
+            "WHERE owner_id = ? ORDER BY id";
+    private static final String EXPORT_BOOKINGS_SQL = "SELECT b.id, b.item_id, b.booker_id, b.start_date, " +
+            "b.end_date, b.status FROM bookings b JOIN items i ON i.id = b.item_id " +
+            "WHERE i.owner_id = ? ORDER BY b.item_id, b.start_date DESC, b.id DESC";
+    private static final String[] ID_COLUMN = {"id"};
+
+    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+    private final ItemSearchIndex itemSearchIndex;
+    private final ItemRequestMatcher itemRequestMatcher;
+    private final ItemBookingTimeline bookingTimeline;
+    private final BookingAdmission bookingAdmission;
+    private final BookingOutbox bookingOutbox;
+    private final TransferCodec codec;
+    private final Validator validator;
+    private final TransferProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate exportJdbcTemplate;
+    private final TransactionTemplate writeTransaction;
+    private final TransactionTemplate exportTransaction;
+
+    public TransferServiceImpl(UserRepository userRepository, ItemRepository itemRepository,
+                               ItemSearchIndex itemSearchIndex, ItemRequestMatcher itemRequestMatcher,
+                               ItemBookingTimeline bookingTimeline,
+                               BookingAdmission bookingAdmission, BookingOutbox bookingOutbox,
+                               TransferCodec codec, Validator validator, TransferProperties properties,
+                               DataSource dataSource, PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.itemRepository = itemRepository;
+        this.itemSearchIndex = itemSearchIndex;
+        this.itemRequestMatcher = itemRequestMatcher;
+        this.bookingTimeline = bookingTimeline;
+        this.bookingAdmission = bookingAdmission;
+        this.bookingOutbox = bookingOutbox;
+        this.codec = codec;
+        this.validator = validator;
+        this.properties = properties;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.exportJdbcTemplate = new JdbcTemplate(dataSource);
+        this.exportJdbcTemplate.setFetchSize(properties.getFetchSize());
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.exportTransaction = new TransactionTemplate(transactionManager);
+        this.exportTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public ImportReport importItems(Integer ownerId, TransferFormat format, InputStream input) {
+        User owner = findUser(ownerId);
+        ImportProgress progress = new ImportProgress(properties.getMaxReportedErrors());
+        readInChunks(codec.reader(format, ItemTransferRow.class, input), progress,
+                chunk -> insertItems(owner, chunk, progress));
+        return progress.toReport();
+    }
+
+    @Override
+    public ImportReport importBookings(Integer ownerId, TransferFormat format, InputStream input) {
+        User owner = findUser(ownerId);
+        ImportProgress progress = new ImportProgress(properties.getMaxReportedErrors());
+        readInChunks(codec.reader(format, BookingTransferRow.class, input), progress,
+                chunk -> insertBookings(owner, chunk, progress));
+        return progress.toReport();
+    }
+
+    @Override
+    public StreamingResponseBody exportItems(Integer ownerId, TransferFormat format) {
+        findUser(ownerId);
+        return output -> export(format, ItemTransferRow.class, output, EXPORT_ITEMS_SQL, (rs, rowNum) ->
+                ItemTransferRow.builder()
+                        .id(rs.getInt("id"))
+                        .name(rs.getString("name"))
+                        .description(rs.getString("description"))
+                        .available(rs.getBoolean("available"))
+                        .build(), ownerId);
+    }
+
+    @Override
+    public StreamingResponseBody exportBookings(Integer ownerId, TransferFormat format) {
+        findUser(ownerId);
+        return output -> export(format, BookingTransferRow.class, output, EXPORT_BOOKINGS_SQL, (rs, rowNum) ->
+                BookingTransferRow.builder()
+                        .id(rs.getInt("id"))
+                        .itemId(rs.getInt("item_id"))
+                        .bookerId(rs.getInt("booker_id"))
+                        .start(rs.getTimestamp("start_date").toLocalDateTime())
+                        .end(rs.getTimestamp("end_date").toLocalDateTime())
+                        .status(BookingStatus.valueOf(rs.getString("status")))
+                        .build(), ownerId);
+    }
+
+    private <T> void readInChunks(RowReader<T> reader, ImportProgress progress,
+                                  Consumer<List<ParsedRow<T>>> insertChunk) {
+        List<ParsedRow<T>> chunk = new ArrayList<>(properties.getChunkSize());
+        for (ParsedRow<T> row = reader.next(); row != null; row = reader.next()) {
+            String error = row.error() != null ? row.error() : validate(row.value());
+            if (error != null) {
+                progress.failed(row.line(), error);
+                continue;
+            }
+            chunk.add(row);
+            if (chunk.size() == properties.getChunkSize()) {
+                insertChunk.accept(chunk);
+                chunk = new ArrayList<>(properties.getChunkSize());
+            }
+        }
+        if (!chunk.isEmpty()) {
+            insertChunk.accept(chunk);
+        }
+    }
+
+    private void insertItems(User owner, List<ParsedRow<ItemTransferRow>> chunk, ImportProgress progress) {
+        try {
+            writeTransaction.executeWithoutResult(status -> {
+                List<Item> items = chunk.stream()
+                        .map(row -> TransferMapper.mapToItem(row.value(), owner))
+                        .toList();
+                List<Integer> ids = insertReturningIds(INSERT_ITEM_SQL, items, (ps, item) -> {
+                    ps.setString(1, item.getName());
+                    ps.setString(2, item.getDescription());
+                    ps.setBoolean(3, item.getAvailable());
+                    ps.setInt(4, owner.getId());
+                });
+                for (int i = 0; i < items.size(); i++) {
+                    items.get(i).setId(ids.get(i));
+                    itemSearchIndex.index(items.get(i));
+                    itemRequestMatcher.itemSaved(items.get(i));
+                }
+            });
+            progress.imported(chunk.size());
+        } catch (DataAccessException e) {
+            retryRowByRow(chunk, e, progress, row -> insertItems(owner, List.of(row), progress));
+        }
+    }
+
+    private void insertBookings(User owner, List<ParsedRow<BookingTransferRow>> chunk, ImportProgress progress) {
+        Map<Long, String> rejected = new HashMap<>();
+        try {
+            writeTransaction.executeWithoutResult(status -> {
+                rejected.clear();
+                Set<Integer> itemIds = chunk.stream()
+                        .map(row -> row.value().getItemId())
+                        .collect(Collectors.toSet());
+                Set<Integer> bookerIds = chunk.stream()
+                        .map(row -> row.value().getBookerId())
+                        .collect(Collectors.toSet());
+                bookingAdmission.lockItems(itemIds);
+                Set<Integer> ownedItems = new HashSet<>(itemRepository.findIdsByOwnerIdAndIdIn(owner.getId(), itemIds));
+                Set<Integer> bookers = new HashSet<>(userRepository.findIdsByIdIn(bookerIds));
+
+                Map<Integer, List<Booking>> approvedByItem = new HashMap<>();
+                List<Booking> bookings = new ArrayList<>(chunk.size());
+                for (ParsedRow<BookingTransferRow> row : chunk) {
+                    try {
+                        bookings.add(admitBooking(owner, row.value(), ownedItems, bookers, approvedByItem));
+                    } catch (NotFoundException | IllegalArgumentException | ConflictException e) {
+                        rejected.put(row.line(), e.getMessage());
+                    }
+                }
+                if (bookings.isEmpty()) {
+                    return;
+                }
+
+                List<Integer> ids = insertReturningIds(INSERT_BOOKING_SQL, bookings, (ps, booking) -> {
+                    ps.setInt(1, booking.getItem().getId());
+                    ps.setInt(2, booking.getBooker().getId());
+                    ps.setString(3, booking.getStatus().name());
+                    ps.setTimestamp(4, Timestamp.valueOf(booking.getStart()));
+                    ps.setTimestamp(5, Timestamp.valueOf(booking.getEnd()));
+                });
+                for (int i = 0; i < bookings.size(); i++) {
+                    bookings.get(i).setId(ids.get(i));
+                    bookingTimeline.record(bookings.get(i));
+                }
+                bookingOutbox.recordAll(BookingEventType.IMPORTED, bookings);
+            });
+            progress.imported(chunk.size() - rejected.size());
+            rejected.forEach(progress::failed);
+        } catch (DataAccessException e) {
+            retryRowByRow(chunk, e, progress, row -> insertBookings(owner, List.of(row), progress));
+        }
+    }
+
+    private Booking admitBooking(User owner, BookingTransferRow row, Set<Integer> ownedItems, Set<Integer> bookers,
+                                 Map<Integer, List<Booking>> approvedByItem) {
+        if (!ownedItems.contains(row.getItemId())) {
+            throw new NotFoundException(String.format("Item with id %d not found among items of user %d",
+                    row.getItemId(), owner.getId()));
+        }
+        if (!bookers.contains(row.getBookerId())) {
+            throw new NotFoundException(String.format("User with id %d not found", row.getBookerId()));
+        }
+        if (row.getBookerId().equals(owner.getId())) {
+            throw new IllegalArgumentException("Booker cannot be the owner of the item");
+        }
+        if (!row.getEnd().isAfter(row.getStart())) {
+            throw new IllegalArgumentException("End date must be after start date");
+        }
+
+        Booking booking = TransferMapper.mapToBooking(row, owner);
+        if (booking.getStatus() == BookingStatus.APPROVED) {
+            List<Booking> approvedForItem = approvedByItem.computeIfAbsent(row.getItemId(), id -> new ArrayList<>());
+            bookingAdmission.checkAvailable(row.getItemId(), null, row.getStart(), row.getEnd(), approvedForItem);
+            approvedForItem.add(booking);
+        }
+        return booking;
+    }
+
+    private <T> List<Integer> insertReturningIds(String sql, List<T> rows, ParameterizedPreparedStatementSetter<T> setter) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(sql, ID_COLUMN),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        setter.setValues(ps, rows.get(i));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                }, keyHolder);
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.get("id")).intValue())
+                .toList();
+    }
+
+    private <T> void retryRowByRow(List<ParsedRow<T>> chunk, DataAccessException e, ImportProgress progress,
+                                   Consumer<ParsedRow<T>> insertRow) {
+        if (chunk.size() == 1) {
+            progress.failed(chunk.getFirst().line(), e.getMostSpecificCause().getMessage());
+            return;
+        }
+        chunk.forEach(insertRow);
+    }
+
+    private <T> void export(TransferFormat format, Class<T> type, OutputStream output, String sql,
+                            RowMapper<T> rowMapper, Object... args) {
+        exportTransaction.executeWithoutResult(status -> {
+            try (SequenceWriter writer = codec.writer(format, type, output)) {
+                exportJdbcTemplate.query(sql, rs -> {
+                    try {
+                        writer.write(rowMapper.mapRow(rs, rs.getRow()));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, args);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private <T> String validate(T row) {
+        Set<ConstraintViolation<T>> violations = validator.validate(row);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private User findUser(Integer userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new NotFoundException("User not found with ID: " + userId));
+    }
+}
@@ -3,16 +3,18 @@ package ru.practicum.shareit.user.controller;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import ru.practicum.shareit.user.dto.CreateUserRequest;
 import ru.practicum.shareit.user.dto.UpdateUserRequest;
 import ru.practicum.shareit.user.dto.UserResponse;
 import ru.practicum.shareit.user.service.UserService;
+import ru.practicum.shareit.util.EntityTags;
 
-@Slf4j
 @Validated
 @RestController
 @RequestMapping(path = "/users")
@@ -24,37 +26,38 @@ public class UserController {
     @PostMapping
     public UserResponse createUser(
             @Valid @RequestBody CreateUserRequest request) {
-        log.info("Received create user request: {}", request);
-        UserResponse response = userService.createUser(request);
-        log.debug("Returning created user: {}", response);
-        return response;
+        return userService.createUser(request);
     }
 
     @PatchMapping("/{userId}")
-    public UserResponse updateUser(
+    public ResponseEntity<UserResponse> updateUser(
             @Positive @PathVariable("userId") Integer userId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdateUserRequest request) {
-        log.info("Received update request for user ID {}: {}", userId, request);
-        UserResponse response = userService.updateUser(userId, request);
-        log.debug("Returning updated user: {}", response);
-        return response;
+        UserResponse user = userService.updateUser(userId, request, EntityTags.versions(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(EntityTags.of(user.getVersion()))
+                .body(user);
     }
 
     @GetMapping("/{userId}")
-    public UserResponse getUser(
-            @Positive @PathVariable("userId") Integer userId) {
-        log.info("Received get request for user ID: {}", userId);
-        UserResponse response = userService.getUser(userId);
-        log.debug("Returning user data: {}", response);
-        return response;
+    public ResponseEntity<UserResponse> getUser(
+            @Positive @PathVariable("userId") Integer userId,
+            WebRequest webRequest) {
+        UserResponse user = userService.getUser(userId);
+        String eTag = EntityTags.of(user.getVersion());
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(user);
     }
 
     @DeleteMapping("/{userId}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void deleteUser(
             @Positive @PathVariable("userId") Integer userId) {
-        log.info("Received delete request for user ID: {}", userId);
         userService.deleteUser(userId);
-        log.debug("User with ID {} deleted successfully", userId);
     }
 }
\ No newline at end of file
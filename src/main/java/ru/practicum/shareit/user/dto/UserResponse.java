@@ -1,5 +1,6 @@
 package ru.practicum.shareit.user.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Data;
 
@@ -9,4 +10,7 @@ public class UserResponse {
     private Integer id;
     private String name;
     private String email;
+
+    @JsonIgnore
+    private Long version;
 }
\ No newline at end of file
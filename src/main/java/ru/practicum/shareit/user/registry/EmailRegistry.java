@@ -0,0 +1,112 @@
+package ru.practicum.shareit.user.registry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.config.EmailRegistryProperties;
+import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.util.TransactionCallbacks;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Email uniqueness pre-check. A Bloom filter of registered emails answers "certainly free"
+ * without a database round trip; only a possible hit is confirmed with {@code existsByEmail}.
+ * The unique constraint stays the source of truth: the filter never forgets an email, so
+ * deleted users and false positives cost one extra query, and two racing sign-ups are settled
+ * by the insert that fails. When registrations outgrow the filter it is rebuilt from the table
+ * in the background, replaying emails registered meanwhile. A failed rebuild keeps the old
+ * filter and is retried by the next registration.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailRegistry implements SmartInitializingSingleton {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final String CHECKS_METRIC = "shareit.user.email.checks";
+
+    private final UserRepository userRepository;
+    private final EmailRegistryProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private volatile BloomFilter filter;
+    private long capacity;
+    private long registered;
+    private Set<String> registeredDuringRebuild;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    public boolean isTaken(String email) {
+        if (!filter.mightContain(email)) {
+            meterRegistry.counter(CHECKS_METRIC, "result", "free").increment();
+            return false;
+        }
+        boolean taken = userRepository.existsByEmail(email);
+        meterRegistry.counter(CHECKS_METRIC, "result", taken ? "taken" : "false_positive").increment();
+        return taken;
+    }
+
+    public void register(String email) {
+        TransactionCallbacks.afterCommit(() -> add(email));
+    }
+
+    private synchronized void add(String email) {
+        filter.put(email);
+        if (registeredDuringRebuild != null) {
+            registeredDuringRebuild.add(email);
+        } else if (++registered > capacity) {
+            registeredDuringRebuild = new HashSet<>();
+            Thread.ofVirtual().name("email-registry-rebuild").start(this::rebuildInBackground);
+        }
+    }
+
+    private void rebuildInBackground() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("Email registry rebuild failed, the next registration retries it", e);
+            synchronized (this) {
+                registeredDuringRebuild = null;
+            }
+        }
+    }
+
+    private void rebuild() {
+        long existing = userRepository.count();
+        long newCapacity = Math.max(properties.getExpectedInsertions(), 2 * existing);
+        BloomFilter rebuilt = new BloomFilter(newCapacity, properties.getFalsePositiveProbability());
+        long loaded = 0;
+        String lastEmail = "";
+        List<String> batch;
+        do {
+            batch = userRepository.findEmailsGreaterThan(lastEmail, Limit.of(LOAD_BATCH_SIZE));
+            batch.forEach(rebuilt::put);
+            loaded += batch.size();
+            if (!batch.isEmpty()) {
+                lastEmail = batch.getLast();
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+
+        synchronized (this) {
+            long replayed = 0;
+            if (registeredDuringRebuild != null) {
+                registeredDuringRebuild.forEach(rebuilt::put);
+                replayed = registeredDuringRebuild.size();
+            }
+            filter = rebuilt;
+            capacity = newCapacity;
+            registered = loaded + replayed;
+            registeredDuringRebuild = null;
+        }
+        log.info("Email registry loaded with {} emails, capacity {}", loaded, newCapacity);
+    }
+}
@@ -1,11 +1,23 @@
 package ru.practicum.shareit.user.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.user.model.User;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface UserRepository extends JpaRepository<User, Integer> {
 
     boolean existsByEmail(String email);
+
+    @Query("SELECT u.email FROM User u WHERE u.email > :email ORDER BY u.email")
+    List<String> findEmailsGreaterThan(@Param("email") String email, Limit limit);
+
+    @Query("SELECT u.id FROM User u WHERE u.id IN :userIds")
+    List<Integer> findIdsByIdIn(@Param("userIds") Collection<Integer> userIds);
 }
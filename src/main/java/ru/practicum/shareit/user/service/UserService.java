@@ -2,11 +2,13 @@ package ru.practicum.shareit.user.service;
 
 import ru.practicum.shareit.user.dto.*;
 
+import java.util.Set;
+
 public interface UserService {
 
     UserResponse createUser(CreateUserRequest request);
 
-    UserResponse updateUser(Integer userId, UpdateUserRequest request);
+    UserResponse updateUser(Integer userId, UpdateUserRequest request, Set<Long> expectedVersions);
 
     UserResponse getUser(Integer userId);
 
@@ -1,40 +1,78 @@
 package ru.practicum.shareit.user.service;
 
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.timeline.ItemBookingTimeline;
 import ru.practicum.shareit.exception.AlreadyExistsException;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.exception.PreconditionFailedException;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
+import ru.practicum.shareit.request.matching.ItemRequestMatcher;
 import ru.practicum.shareit.user.dto.CreateUserRequest;
 import ru.practicum.shareit.user.dto.UpdateUserRequest;
 import ru.practicum.shareit.user.dto.UserResponse;
 import ru.practicum.shareit.user.mapper.UserMapper;
 import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.registry.EmailRegistry;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.util.OptimisticRetry;
+import ru.practicum.shareit.util.TransactionCallbacks;
+
+import java.util.Locale;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class UserServiceImpl implements UserService {
 
+    private static final String EMAIL_IN_USE_MESSAGE = "The email provided is already in use.";
+    private static final String EMAIL_CONSTRAINT = "uq_user_email";
+
     private final UserRepository userRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ItemSearchIndex itemSearchIndex;
+    private final ItemBookingTimeline bookingTimeline;
+    private final ItemRequestMatcher itemRequestMatcher;
+    private final OptimisticRetry optimisticRetry;
+    private final EmailRegistry emailRegistry;
 
     @Override
+    @Transactional
     public UserResponse createUser(CreateUserRequest request) {
         validateEmailAlreadyExists(request.getEmail());
-        User user = UserMapper.mapToUser(request);
-        user = userRepository.save(user);
+        User user = saveUser(UserMapper.mapToUser(request));
+        emailRegistry.register(user.getEmail());
 
         return UserMapper.mapToUserResponse(user);
     }
 
     @Override
-    public UserResponse updateUser(Integer userId, UpdateUserRequest request) {
-        User existingUser = findUser(userId);
-        if (request.getEmail() != null && !request.getEmail().equals(existingUser.getEmail())) {
-            validateEmailAlreadyExists(request.getEmail());
-        }
-        User savedUser = updateRequiredUserFields(existingUser, request);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UserResponse updateUser(Integer userId, UpdateUserRequest request, Set<Long> expectedVersions) {
+        return optimisticRetry.execute(() -> {
+            User existingUser = findUser(userId);
+            if (expectedVersions != null && !expectedVersions.contains(existingUser.getVersion())) {
+                throw new PreconditionFailedException("User has been modified since it was read");
+            }
+            boolean emailChanged = request.getEmail() != null && !request.getEmail().isBlank()
+                    && !request.getEmail().equals(existingUser.getEmail());
+            if (emailChanged) {
+                validateEmailAlreadyExists(request.getEmail());
+            }
+            User savedUser = updateRequiredUserFields(existingUser, request);
+            if (emailChanged) {
+                emailRegistry.register(savedUser.getEmail());
+            }
 
-        return UserMapper.mapToUserResponse(savedUser);
+            return UserMapper.mapToUserResponse(savedUser);
+        });
     }
 
     @Override
@@ -44,14 +82,21 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional
     public void deleteUser(Integer userId) {
         findUser(userId);
         userRepository.deleteById(userId);
+        TransactionCallbacks.afterCommit(() -> {
+            entityManagerFactory.getCache().evict(Item.class);
+            itemSearchIndex.removeByOwner(userId);
+            bookingTimeline.removeByUser(userId);
+            itemRequestMatcher.removeByRequester(userId);
+        });
     }
 
     private void validateEmailAlreadyExists(String email) {
-        if (userRepository.existsByEmail(email)) {
-            throw new AlreadyExistsException("The email provided is already in use.");
+        if (emailRegistry.isTaken(email)) {
+            throw new AlreadyExistsException(EMAIL_IN_USE_MESSAGE);
         }
     }
 
@@ -68,6 +113,26 @@ public class UserServiceImpl implements UserService {
             existingUser.setEmail(request.getEmail());
         }
 
-        return userRepository.save(existingUser);
+        return saveUser(existingUser);
+    }
+
+    private User saveUser(User user) {
+        try {
+            return userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            if (isEmailConflict(e)) {
+                throw new AlreadyExistsException(EMAIL_IN_USE_MESSAGE);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * H2 reports the backing index name (UQ_USER_EMAIL_INDEX_...), PostgreSQL the constraint itself.
+     */
+    private static boolean isEmailConflict(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(EMAIL_CONSTRAINT);
     }
 }
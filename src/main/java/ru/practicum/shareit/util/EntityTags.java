@@ -0,0 +1,49 @@
+package ru.practicum.shareit.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Entity tags built from the optimistic lock version. A representation that also carries rows
+ * other than the entity itself (comments, bookings) gets a weak tag with a hash of its content
+ * appended, so {@code If-None-Match} notices those changes while {@code If-Match} still compares
+ * versions. Being weak, that tag also lets Tomcat gzip the response, which it never does for a
+ * strong one.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class EntityTags {
+
+    private static final Pattern VERSION_TAG = Pattern.compile("\\s*(?:W/)?\"(\\d{1,18})(?:\\.[0-9a-f]+)?\"\\s*");
+
+    public static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    public static String of(long version, Object representation) {
+        return "W/\"" + version + "." + Integer.toHexString(representation.hashCode()) + "\"";
+    }
+
+    /**
+     * Versions listed in an {@code If-Match} header, or {@code null} when the header is absent or
+     * {@code *}. Foreign tags are skipped; weak tags from {@link #of(long, Object)} are accepted,
+     * as the version in them still identifies the entity state.
+     */
+    public static Set<Long> versions(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        Set<Long> versions = new HashSet<>();
+        for (String tag : ifMatch.split(",")) {
+            Matcher matcher = VERSION_TAG.matcher(tag);
+            if (matcher.matches()) {
+                versions.add(Long.parseLong(matcher.group(1)));
+            }
+        }
+        return versions;
+    }
+}
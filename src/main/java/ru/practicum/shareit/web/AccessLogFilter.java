@@ -0,0 +1,104 @@
+package ru.practicum.shareit.web;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import ru.practicum.shareit.config.AccessLogProperties;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes one line per request with the method, route template, caller id, status, duration
+ * and response size. Payloads are never logged. Successful fast requests are sampled;
+ * server errors and requests slower than {@code slowThreshold} are always logged.
+ * The {@code ACCESS} logger is backed by an asynchronous appender in logback-spring.xml.
+ */
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    private static final Logger ACCESS = LoggerFactory.getLogger("ACCESS");
+    private static final String USER_ID_HEADER = "X-Sharer-User-Id";
+
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+
+    public AccessLogFilter(AccessLogProperties properties) {
+        this.sampleRate = properties.getSampleRate();
+        this.slowThresholdNanos = properties.getSlowThreshold().toNanos();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long started = System.nanoTime();
+        CountingResponseWrapper countingResponse = new CountingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, countingResponse);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncCompletion(started, countingResponse));
+            } else {
+                log(request, countingResponse, started);
+            }
+        }
+    }
+
+    private void log(HttpServletRequest request, CountingResponseWrapper response, long started) {
+        long duration = System.nanoTime() - started;
+        int status = response.getStatus();
+        if (!isLogged(status, duration) || !ACCESS.isInfoEnabled()) {
+            return;
+        }
+        ACCESS.info("method={} route={} userId={} status={} durationMs={} bytes={}",
+                request.getMethod(), route(request), request.getHeader(USER_ID_HEADER), status,
+                TimeUnit.NANOSECONDS.toMillis(duration), response.getBytesWritten());
+    }
+
+    private boolean isLogged(int status, long duration) {
+        return status >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR
+                || duration >= slowThresholdNanos
+                || sampleRate >= 1.0
+                || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private static Object route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern : request.getRequestURI();
+    }
+
+    private final class AsyncCompletion implements AsyncListener {
+        private final long started;
+        private final CountingResponseWrapper response;
+
+        private AsyncCompletion(long started, CountingResponseWrapper response) {
+            this.started = started;
+            this.response = response;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            log((HttpServletRequest) event.getAsyncContext().getRequest(), response, started);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
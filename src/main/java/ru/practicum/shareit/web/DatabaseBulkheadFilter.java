@@ -0,0 +1,171 @@
+package ru.practicum.shareit.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import ru.practicum.shareit.config.DatabaseBulkheadProperties;
+import ru.practicum.shareit.exception.ErrorResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Admits at most {@code limit} requests at once, in arrival order. A request that cannot get
+ * a permit within {@code acquireTimeout} is answered with 503 instead of waiting for a JDBC
+ * connection. The permit of an asynchronous request is held until the async processing completes.
+ * <p>
+ * When adaptive, the limit moves between {@code minConcurrentRequests} and
+ * {@code maxConcurrentRequests} by AIMD on every {@link #adjustLimit} call: it is cut by
+ * {@code decreaseFactor} while the mean connection pool wait exceeds {@code targetConnectionWait},
+ * and grows by one when the bulkhead was full during the last interval without the pool backing up.
+ */
+@Slf4j
+public class DatabaseBulkheadFilter extends OncePerRequestFilter {
+
+    private static final String ACTUATOR_PATH = "/actuator";
+
+    private final ResizableSemaphore permits;
+    private final long acquireTimeoutNanos;
+    private final ObjectMapper objectMapper;
+    private final int minLimit;
+    private final int maxLimit;
+    private final Duration targetConnectionWait;
+    private final double decreaseFactor;
+    private final AtomicBoolean saturated = new AtomicBoolean();
+    private volatile int limit;
+
+    public DatabaseBulkheadFilter(DatabaseBulkheadProperties properties, ObjectMapper objectMapper) {
+        this.maxLimit = properties.getMaxConcurrentRequests();
+        this.minLimit = Math.min(properties.getMinConcurrentRequests(), maxLimit);
+        this.limit = maxLimit;
+        this.permits = new ResizableSemaphore(maxLimit);
+        this.acquireTimeoutNanos = properties.getAcquireTimeout().toNanos();
+        this.targetConnectionWait = properties.getTargetConnectionWait();
+        this.decreaseFactor = properties.getDecreaseFactor();
+        this.objectMapper = objectMapper;
+    }
+
+    public int availablePermits() {
+        return Math.max(permits.availablePermits(), 0);
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public synchronized void adjustLimit(Duration meanConnectionWait) {
+        int current = limit;
+        if (meanConnectionWait.compareTo(targetConnectionWait) > 0) {
+            int decreased = Math.max(minLimit, (int) (current * decreaseFactor));
+            if (decreased < current) {
+                permits.reducePermits(current - decreased);
+                limit = decreased;
+                log.info("Database pool wait {} ms, bulkhead limit lowered to {}",
+                        meanConnectionWait.toMillis(), decreased);
+            }
+            saturated.set(false);
+        } else if (saturated.getAndSet(false) && current < maxLimit) {
+            permits.release();
+            limit = current + 1;
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith(ACTUATOR_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!acquire()) {
+            log.warn("Database bulkhead is full, rejecting {} {}", request.getMethod(), request.getRequestURI());
+            reject(response);
+            return;
+        }
+        Permit permit = new Permit();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(permit);
+            } else {
+                permit.release();
+            }
+        }
+    }
+
+    private boolean acquire() {
+        if (permits.availablePermits() <= 0) {
+            saturated.set(true);
+        }
+        try {
+            return permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                new ErrorResponse("Service is overloaded, please retry later"));
+    }
+
+    private static final class ResizableSemaphore extends Semaphore {
+
+        private ResizableSemaphore(int permits) {
+            super(permits, true);
+        }
+
+        @Override
+        protected void reducePermits(int reduction) {
+            super.reducePermits(reduction);
+        }
+    }
+
+    private final class Permit implements AsyncListener {
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package ru.practicum.shareit.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import ru.practicum.shareit.config.RateLimitProperties;
+import ru.practicum.shareit.exception.ErrorResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-caller token bucket keyed by {@code X-Sharer-User-Id}. Requests without the header only
+ * reach cheap user and search endpoints and are not limited. A bucket holds {@code capacity} tokens refilled at {@code refillPerSecond}; expensive
+ * endpoints take more tokens per request. A request without enough tokens gets 429 with the
+ * number of seconds until it would be admitted in {@code Retry-After}.
+ * <p>
+ * Each bucket is a single {@link AtomicLong} updated by compare-and-set (the generic cell rate
+ * algorithm form of a token bucket), so concurrent requests of one caller never block. Buckets
+ * live in a Caffeine cache and are evicted once idle for longer than a full refill takes, at
+ * which point they would be full anyway.
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String ACTUATOR_PATH = "/actuator";
+    private static final String USER_ID_HEADER = "X-Sharer-User-Id";
+
+    private final Cache<String, TokenBucket> buckets;
+    private final Map<String, Integer> costs;
+    private final int capacity;
+    private final long nanosPerToken;
+    private final Ticker ticker;
+    private final ObjectMapper objectMapper;
+    private final Counter rejected;
+
+    public RateLimitFilter(RateLimitProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                           Ticker ticker) {
+        this.capacity = properties.getCapacity();
+        this.nanosPerToken = TimeUnit.SECONDS.toNanos(1) / properties.getRefillPerSecond();
+        this.costs = Map.copyOf(properties.getCosts());
+        this.ticker = ticker;
+        this.objectMapper = objectMapper;
+        Duration fullRefill = Duration.ofNanos(nanosPerToken * capacity);
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(properties.getIdleTimeout().compareTo(fullRefill) > 0
+                        ? properties.getIdleTimeout() : fullRefill)
+                .maximumSize(properties.getMaximumClients())
+                .ticker(ticker)
+                .build();
+        this.rejected = Counter.builder("shareit.rate-limit.rejected")
+                .description("Requests rejected by the per-user rate limit")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith(ACTUATOR_PATH) || request.getHeader(USER_ID_HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String caller = request.getHeader(USER_ID_HEADER).trim();
+        long waitNanos = buckets.get(caller, key -> new TokenBucket())
+                .tryConsume(cost(request), ticker.read());
+        if (waitNanos > 0) {
+            log.debug("Rate limit exceeded by {} on {} {}", caller, request.getMethod(), request.getRequestURI());
+            rejected.increment();
+            reject(response, waitNanos);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private int cost(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        int cost = costs.getOrDefault(request.getMethod() + " " + path, 1);
+        return Math.min(Math.max(cost, 1), capacity);
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, divideUp(waitNanos))));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                new ErrorResponse("Too many requests, please retry later"));
+    }
+
+    private static long divideUp(long nanos) {
+        long second = TimeUnit.SECONDS.toNanos(1);
+        return (nanos + second - 1) / second;
+    }
+
+    /**
+     * Stores the moment the bucket will be full again. Taking {@code cost} tokens moves that
+     * moment forward by {@code cost} refill intervals, which is allowed while it stays within
+     * {@code capacity} intervals from now.
+     */
+    private final class TokenBucket {
+        private final AtomicLong fullAt = new AtomicLong(Long.MIN_VALUE);
+
+        private long tryConsume(int cost, long now) {
+            long burst = capacity * nanosPerToken;
+            while (true) {
+                long current = fullAt.get();
+                long next = Math.max(current, now) + cost * nanosPerToken;
+                long excess = next - now - burst;
+                if (excess > 0) {
+                    return excess;
+                }
+                if (fullAt.compareAndSet(current, next)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
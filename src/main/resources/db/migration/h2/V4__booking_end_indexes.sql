@@ -0,0 +1,3 @@
+-- Текущие и будущие бронирования (end_date >= now) — небольшая «горячая» часть истории.
+-- Диапазон по end_date отсекает прошедшие бронирования без сканирования всей истории пользователя
+CREATE INDEX idx_bookings_booker_end ON bookings (booker_id, end_date);
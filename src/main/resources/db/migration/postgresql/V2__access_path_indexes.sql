@@ -0,0 +1,11 @@
+-- Списки бронирований пользователя: WHERE booker_id = ? [AND status = ?] ORDER BY start_date DESC, id DESC
+CREATE INDEX idx_bookings_booker_start ON bookings (booker_id, start_date DESC, id DESC);
+CREATE INDEX idx_bookings_booker_status_start ON bookings (booker_id, status, start_date DESC, id DESC);
+
+-- Бронирования вещей владельца и поиск последнего/следующего бронирования вещи
+CREATE INDEX idx_bookings_item_start ON bookings (item_id, start_date DESC, id DESC);
+CREATE INDEX idx_bookings_item_end ON bookings (item_id, end_date);
+
+-- Вещи владельца и комментарии к вещи
+CREATE INDEX idx_items_owner ON items (owner_id, id);
+CREATE INDEX idx_comments_item ON comments (item_id, created);
@@ -0,0 +1,18 @@
+-- Outbox событий жизненного цикла бронирований; пишется в одной транзакции с бронированием.
+-- Внешних ключей нет: событие должно пережить удаление бронирования до доставки
+CREATE TABLE IF NOT EXISTS booking_outbox (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_type VARCHAR(20) NOT NULL,
+    booking_id BIGINT NOT NULL,
+    item_id BIGINT NOT NULL,
+    booker_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    start_date TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    end_date TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    created_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    dispatched_at TIMESTAMP WITHOUT TIME ZONE
+);
+
+-- Выборка недоставленных событий по порядку id и удаление доставленных по сроку хранения
+CREATE INDEX idx_booking_outbox_dispatched ON booking_outbox (dispatched_at, id);
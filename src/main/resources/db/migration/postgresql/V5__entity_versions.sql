@@ -0,0 +1,4 @@
+-- Версии для оптимистической блокировки: параллельный PATCH не затирает чужие изменения,
+-- а версия служит ETag для условных запросов
+ALTER TABLE users ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE items ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
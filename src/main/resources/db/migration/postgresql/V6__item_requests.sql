@@ -0,0 +1,16 @@
+-- Запросы вещей: пользователь описывает, что ему нужно, владельцы отвечают добавленными вещами
+CREATE TABLE IF NOT EXISTS requests (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    description VARCHAR(1000) NOT NULL,
+    requester_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    created TIMESTAMP WITHOUT TIME ZONE NOT NULL
+);
+
+-- Свои запросы пользователя: WHERE requester_id = ? ORDER BY created DESC, id DESC
+CREATE INDEX idx_requests_requester_created ON requests (requester_id, created DESC, id DESC);
+-- Лента чужих запросов с keyset-пагинацией: WHERE (created, id) < (?, ?) ORDER BY created DESC, id DESC
+CREATE INDEX idx_requests_created ON requests (created DESC, id DESC);
+
+-- Вещь, добавленная в ответ на запрос
+ALTER TABLE items ADD COLUMN request_id BIGINT REFERENCES requests(id) ON DELETE SET NULL;
+CREATE INDEX idx_items_request ON items (request_id);
@@ -0,0 +1,120 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.user.model.User;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * ETag round trips over HTTP: {@code If-None-Match} with the current tag answers 304, and
+ * {@code If-Match} with a stale tag is refused with 412 instead of overwriting newer data.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestFixtures.class)
+class ConditionalRequestTest {
+
+    private static final String USER_ID_HEADER = "X-Sharer-User-Id";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void userIfNoneMatchAnswersNotModifiedUntilChanged() throws Exception {
+        int userId = fixtures.user().getId();
+        String eTag = userETag(userId);
+
+        mockMvc.perform(get("/users/{id}", userId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(patch("/users/{id}", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"renamed\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/users/{id}", userId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("renamed"));
+    }
+
+    @Test
+    void userIfMatchWithStaleTagFails() throws Exception {
+        int userId = fixtures.user().getId();
+        String eTag = userETag(userId);
+
+        String newTag = mockMvc.perform(patch("/users/{id}", userId)
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"first\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(eTag, newTag);
+
+        mockMvc.perform(patch("/users/{id}", userId)
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"second\"}"))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(get("/users/{id}", userId))
+                .andExpect(jsonPath("$.name").value("first"));
+    }
+
+    @Test
+    void itemTagsSupportBothConditions() throws Exception {
+        User owner = fixtures.user();
+        int ownerId = owner.getId();
+        int itemId = fixtures.item(owner).getId();
+        String eTag = mockMvc.perform(get("/items/{id}", itemId).header(USER_ID_HEADER, ownerId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/items/{id}", itemId)
+                        .header(USER_ID_HEADER, ownerId)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        String newTag = mockMvc.perform(patch("/items/{id}", itemId)
+                        .header(USER_ID_HEADER, ownerId)
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"renamed\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(patch("/items/{id}", itemId)
+                        .header(USER_ID_HEADER, ownerId)
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"stale\"}"))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(patch("/items/{id}", itemId)
+                        .header(USER_ID_HEADER, ownerId)
+                        .header(HttpHeaders.IF_MATCH, newTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"description\":\"updated\"}"))
+                .andExpect(status().isOk());
+    }
+
+    private String userETag(int userId) throws Exception {
+        return mockMvc.perform(get("/users/{id}", userId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+}
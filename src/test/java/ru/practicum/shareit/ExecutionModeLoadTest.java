@@ -0,0 +1,192 @@
+package ru.practicum.shareit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares platform and virtual thread execution under the same closed-loop load on the
+ * booking and item read endpoints. Disabled by default, run with
+ * {@code mvn test -Dtest=ExecutionModeLoadTest -Dshareit.load-test=true}. The {@code test}
+ * profile uses H2; pass {@code -Dshareit.load-test.profile=default} to run against Postgres.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "shareit.load-test", matches = "true")
+class ExecutionModeLoadTest {
+
+    private static final String USER_ID_HEADER = "X-Sharer-User-Id";
+    private static final String PROFILE = System.getProperty("shareit.load-test.profile", "test");
+    private static final int CONCURRENCY = Integer.getInteger("shareit.load-test.concurrency", 400);
+    private static final int REQUESTS = Integer.getInteger("shareit.load-test.requests", 20_000);
+    private static final int USERS = 20;
+    private static final int ITEMS_PER_USER = 5;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    @Test
+    void compareExecutionModes() throws Exception {
+        LoadResult platform = run(false);
+        LoadResult virtual = run(true);
+
+        log.info("{}", LoadResult.HEADER);
+        log.info("{}", platform);
+        log.info("{}", virtual);
+
+        for (LoadResult result : List.of(platform, virtual)) {
+            assertEquals(0, result.failed, result.mode + " mode returned unexpected errors");
+            assertTrue(result.succeeded > 0, result.mode + " mode served no requests");
+        }
+    }
+
+    private LoadResult run(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        SpringApplication application = new SpringApplication(ShareItApp.class);
+        application.setAdditionalProfiles(PROFILE);
+        try (ConfigurableApplicationContext context = application.run(
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--shareit.rate-limit.enabled=false",
+                "--spring.datasource.url=jdbc:h2:mem:load-" + mode + ";DB_CLOSE_DELAY=-1",
+                "--logging.level.root=WARN",
+                "--logging.level." + ExecutionModeLoadTest.class.getName() + "=INFO",
+                "--logging.level.org.springframework.transaction.interceptor=WARN",
+                "--logging.level.org.springframework.orm.jpa.JpaTransactionManager=WARN")) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String baseUrl = "http://localhost:" + port;
+            seed(baseUrl);
+            drive(baseUrl, REQUESTS / 10);
+            return drive(baseUrl, REQUESTS).withMode(mode);
+        }
+    }
+
+    private void seed(String baseUrl) throws Exception {
+        for (int user = 1; user <= USERS; user++) {
+            send(post(baseUrl + "/users", null,
+                    "{\"name\":\"user" + user + "\",\"email\":\"user" + user + "@load.ru\"}"));
+            for (int item = 0; item < ITEMS_PER_USER; item++) {
+                send(post(baseUrl + "/items", user,
+                        "{\"name\":\"drill " + item + "\",\"description\":\"Cordless drill\",\"available\":true}"));
+            }
+        }
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        for (int item = 1; item <= USERS * ITEMS_PER_USER; item++) {
+            for (int booking = 0; booking < 5; booking++) {
+                LocalDateTime from = start.plusDays(booking);
+                send(post(baseUrl + "/bookings", bookerOf(item),
+                        "{\"itemId\":" + item + ",\"start\":\"" + from + "\",\"end\":\"" + from.plusHours(2) + "\"}"));
+            }
+        }
+    }
+
+    private LoadResult drive(String baseUrl, int requests) throws Exception {
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        long started = System.nanoTime();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < CONCURRENCY; worker++) {
+                workers.submit(() -> {
+                    for (int i = next.getAndIncrement(); i < requests; i = next.getAndIncrement()) {
+                        HttpRequest request = randomRead(baseUrl);
+                        long requestStarted = System.nanoTime();
+                        int status = send(request);
+                        latencies[i] = System.nanoTime() - requestStarted;
+                        if (status == 200) {
+                            succeeded.incrementAndGet();
+                        } else if (status == 503) {
+                            rejected.incrementAndGet();
+                        } else {
+                            failed.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+        }
+        long elapsed = System.nanoTime() - started;
+
+        Arrays.sort(latencies);
+        return new LoadResult(null, requests * 1e9 / elapsed, percentile(latencies, 0.5),
+                percentile(latencies, 0.99), succeeded.get(), rejected.get(), failed.get());
+    }
+
+    private HttpRequest randomRead(String baseUrl) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int user = random.nextInt(USERS) + 1;
+        int item = random.nextInt(USERS * ITEMS_PER_USER) + 1;
+        List<String> paths = List.of(
+                "/bookings?state=ALL",
+                "/bookings/owner?state=FUTURE",
+                "/items",
+                "/items/" + item,
+                "/items/search?text=drill");
+        return HttpRequest.newBuilder(URI.create(baseUrl + paths.get(random.nextInt(paths.size()))))
+                .header(USER_ID_HEADER, String.valueOf(user))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String url, Integer userId, String body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (userId != null) {
+            builder.header(USER_ID_HEADER, String.valueOf(userId));
+        }
+        return builder.build();
+    }
+
+    private int send(HttpRequest request) throws Exception {
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static int bookerOf(int itemId) {
+        int ownerId = (itemId - 1) / ITEMS_PER_USER + 1;
+        return ownerId % USERS + 1;
+    }
+
+    private static double percentile(long[] sortedNanos, double quantile) {
+        int index = (int) Math.ceil(quantile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(index, 0)] / 1e6;
+    }
+
+    private record LoadResult(String mode, double throughput, double p50Millis, double p99Millis,
+                              int succeeded, int rejected, int failed) {
+
+        private static final String HEADER = String.format("%-10s %12s %10s %10s %8s %8s %8s",
+                "mode", "req/s", "p50 ms", "p99 ms", "ok", "503", "errors");
+
+        private LoadResult withMode(String mode) {
+            return new LoadResult(mode, throughput, p50Millis, p99Millis, succeeded, rejected, failed);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-10s %12.1f %10.2f %10.2f %8d %8d %8d",
+                    mode, throughput, p50Millis, p99Millis, succeeded, rejected, failed);
+        }
+    }
+}
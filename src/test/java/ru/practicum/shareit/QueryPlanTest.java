@@ -0,0 +1,166 @@
+package ru.practicum.shareit;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.booking.model.BookingRole;
+import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingQuery;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.repository.CommentRepository;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.util.KeysetCursor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the hot booking, item, comment and request queries through their repositories,
+ * captures the SQL Hibernate generates for them and runs EXPLAIN for it against the migrated
+ * H2 schema. Fails when any table is read with a full table scan, or through an index whose
+ * leading column the query does not constrain (a full index scan).
+ */
+@SpringBootTest
+@Import(QueryPlanTest.SqlCaptureConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest {
+
+    private static final Pattern TABLE_ACCESS = Pattern.compile("/\\* PUBLIC\\.([\\w.]+)(?:: ([^*]*))? \\*/");
+    private static final LocalDateTime NOW = LocalDateTime.of(2030, 1, 1, 12, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private ItemRequestRepository itemRequestRepository;
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    void hotQueriesUseIndexes(String name, Runnable query) {
+        List<String> statements = SqlCapture.capture(query);
+        assertFalse(statements.isEmpty(), "No SQL captured for " + name);
+
+        for (String sql : statements) {
+            String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+
+            Matcher access = TABLE_ACCESS.matcher(plan);
+            while (access.find()) {
+                String index = access.group(1);
+                String condition = access.group(2);
+                assertFalse(index.endsWith(".tableScan"), () -> "Query falls back to a table scan:\n" + plan);
+                String leadingColumn = jdbcTemplate.queryForObject("SELECT column_name FROM " +
+                        "information_schema.index_columns WHERE index_name = ? AND ordinal_position = 1",
+                        String.class, index);
+                assertTrue(condition != null && condition.contains(leadingColumn),
+                        () -> "Query scans the whole index " + index + ":\n" + plan);
+            }
+        }
+    }
+
+    private Stream<Arguments> hotQueries() {
+        List<Arguments> queries = new ArrayList<>();
+        for (BookingRole role : BookingRole.values()) {
+            for (BookingState state : BookingState.values()) {
+                queries.add(Arguments.of(role + " " + state, (Runnable) () ->
+                        bookingRepository.findBookings(bookingQuery(role, state, null))));
+                queries.add(Arguments.of(role + " " + state + " after cursor", (Runnable) () ->
+                        bookingRepository.findBookings(bookingQuery(role, state, new KeysetCursor(NOW, 100)))));
+            }
+        }
+        queries.addAll(Arrays.asList(
+                Arguments.of("comment eligibility", (Runnable) () ->
+                        commentRepository.existsApprovedBookingForUserAndItem(1, 1, NOW, BookingStatus.APPROVED)),
+                Arguments.of("items by owner", (Runnable) () -> itemRepository.findByOwnerId(1)),
+                Arguments.of("item count by owner", (Runnable) () -> itemRepository.countByOwnerId(1)),
+                Arguments.of("item summaries by owner", (Runnable) () ->
+                        itemRepository.findSummariesByOwnerId(1, NOW, NOW.minusDays(30))),
+                Arguments.of("latest comments of items", (Runnable) () ->
+                        commentRepository.findViewsByItemIdIn(List.of(1, 2), 10)),
+                Arguments.of("comment page", (Runnable) () ->
+                        commentRepository.findViewsByItemId(1, Limit.of(20))),
+                Arguments.of("comment page after cursor", (Runnable) () ->
+                        commentRepository.findViewsByItemIdAfter(1, NOW, 100, Limit.of(20))),
+                Arguments.of("own requests", (Runnable) () -> itemRequestRepository.findByRequesterId(1)),
+                Arguments.of("other requests after cursor", (Runnable) () ->
+                        itemRequestRepository.findOthersAfter(1, NOW, 100, Limit.of(20))),
+                Arguments.of("answers to requests", (Runnable) () ->
+                        itemRepository.findAnswersByRequestIdIn(List.of(1, 2)))
+        ));
+        return queries.stream();
+    }
+
+    private static BookingQuery bookingQuery(BookingRole role, BookingState state, KeysetCursor after) {
+        return BookingQuery.builder()
+                .role(role)
+                .userId(1)
+                .state(state)
+                .now(NOW)
+                .after(after)
+                .limit(Limit.of(20))
+                .build();
+    }
+
+    /**
+     * Records the SQL Hibernate prepares on the calling thread only, so statements of the
+     * background pollers do not leak into the captured query.
+     */
+    static final class SqlCapture implements StatementInspector {
+
+        private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+        static List<String> capture(Runnable query) {
+            List<String> statements = new ArrayList<>();
+            CAPTURED.set(statements);
+            try {
+                query.run();
+            } finally {
+                CAPTURED.remove();
+            }
+            return statements;
+        }
+
+        @Override
+        public String inspect(String sql) {
+            List<String> statements = CAPTURED.get();
+            if (statements != null) {
+                statements.add(sql);
+            }
+            return sql;
+        }
+    }
+
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        @Bean
+        HibernatePropertiesCustomizer sqlCaptureCustomizer() {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlCapture());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package ru.practicum.shareit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.test.context.TestComponent;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Users and items saved straight through the repositories, for tests whose subject needs
+ * some to work with. Emails are numbered per test run, so suites sharing the in-memory
+ * database never collide on the unique constraint.
+ */
+@TestComponent
+@RequiredArgsConstructor
+public class TestFixtures {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+
+    public User user() {
+        int number = SEQUENCE.incrementAndGet();
+        return userRepository.save(User.builder()
+                .name("user " + number)
+                .email("user" + number + "@fixtures.test")
+                .build());
+    }
+
+    public Item item(User owner) {
+        return itemRepository.save(Item.builder()
+                .name("item " + SEQUENCE.incrementAndGet())
+                .description("test item")
+                .available(true)
+                .owner(owner)
+                .build());
+    }
+}
@@ -0,0 +1,100 @@
+package ru.practicum.shareit.booking.outbox;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.config.BookingOutboxProperties;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BookingOutboxDispatcherTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2030, 1, 1, 12, 0);
+
+    private final BookingOutboxRepository outboxRepository = mock(BookingOutboxRepository.class);
+    private final BookingOutboxProperties properties = new BookingOutboxProperties();
+    private final List<Long> delivered = new ArrayList<>();
+    private final Set<Long> failing = new HashSet<>();
+
+    private BookingOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        BookingEventListener listener = event -> {
+            if (failing.contains(event.getId())) {
+                throw new IllegalStateException("listener is down");
+            }
+            delivered.add(event.getId());
+        };
+        @SuppressWarnings("unchecked")
+        ObjectProvider<BookingEventListener> listeners = mock(ObjectProvider.class);
+        when(listeners.orderedStream()).thenAnswer(invocation -> Stream.of(listener));
+
+        dispatcher = new BookingOutboxDispatcher(outboxRepository, listeners,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), properties, new SimpleMeterRegistry(),
+                Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+    }
+
+    @Test
+    void failedEventHoldsBackLaterEventsOfItsItemOnly() {
+        when(outboxRepository.findByDispatchedAtIsNullOrderByIdAsc(any(Limit.class)))
+                .thenReturn(List.of(entry(1, 10, 0), entry(2, 20, 0), entry(3, 10, 0), entry(4, 20, 0)));
+        failing.add(1L);
+
+        dispatcher.dispatch();
+
+        assertEquals(List.of(2L, 4L), delivered);
+        verify(outboxRepository).markDispatched(eq(List.of(2L, 4L)), eq(NOW));
+        verify(outboxRepository).incrementAttempts(List.of(1L));
+    }
+
+    @Test
+    void eventIsGivenUpAfterMaxAttempts() {
+        properties.setMaxAttempts(3);
+        when(outboxRepository.findByDispatchedAtIsNullOrderByIdAsc(any(Limit.class)))
+                .thenReturn(List.of(entry(1, 10, 2), entry(2, 10, 0)));
+        failing.add(1L);
+
+        dispatcher.dispatch();
+
+        assertEquals(List.of(2L), delivered);
+        verify(outboxRepository).markDispatched(eq(List.of(1L, 2L)), eq(NOW));
+        verify(outboxRepository, never()).incrementAttempts(any());
+    }
+
+    private static BookingOutboxEntry entry(long id, int itemId, int attempts) {
+        LocalDateTime start = NOW.plusDays(1);
+        return BookingOutboxEntry.builder()
+                .id(id)
+                .type(BookingEventType.CREATED)
+                .bookingId((int) id)
+                .itemId(itemId)
+                .bookerId(1)
+                .status(BookingStatus.WAITING)
+                .start(start)
+                .end(start.plusHours(1))
+                .createdAt(NOW)
+                .attempts(attempts)
+                .build();
+    }
+}
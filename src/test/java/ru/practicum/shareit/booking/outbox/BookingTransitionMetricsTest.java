@@ -0,0 +1,48 @@
+package ru.practicum.shareit.booking.outbox;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.booking.model.BookingStatus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BookingTransitionMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BookingTransitionMetrics metrics = new BookingTransitionMetrics(meterRegistry);
+
+    @Test
+    void countsTransitionsByPreviousAndNewStatus() {
+        metrics.onBookingEvent(event(1, 10, BookingEventType.CREATED, BookingStatus.WAITING));
+        metrics.onBookingEvent(event(2, 20, BookingEventType.CREATED, BookingStatus.WAITING));
+        metrics.onBookingEvent(event(3, 10, BookingEventType.APPROVED, BookingStatus.APPROVED));
+
+        assertEquals(2.0, count("NEW", "WAITING"));
+        assertEquals(1.0, count("WAITING", "APPROVED"));
+    }
+
+    @Test
+    void redeliveredEventIsCountedOnce() {
+        metrics.onBookingEvent(event(1, 10, BookingEventType.CREATED, BookingStatus.WAITING));
+        metrics.onBookingEvent(event(2, 10, BookingEventType.REJECTED, BookingStatus.REJECTED));
+        metrics.onBookingEvent(event(1, 10, BookingEventType.CREATED, BookingStatus.WAITING));
+        metrics.onBookingEvent(event(2, 10, BookingEventType.REJECTED, BookingStatus.REJECTED));
+
+        assertEquals(1.0, count("NEW", "WAITING"));
+        assertEquals(1.0, count("WAITING", "REJECTED"));
+    }
+
+    private double count(String from, String to) {
+        return meterRegistry.counter("shareit.booking.transitions", "from", from, "to", to).count();
+    }
+
+    private static BookingEvent event(long id, int itemId, BookingEventType type, BookingStatus status) {
+        return BookingEvent.builder()
+                .id(id)
+                .type(type)
+                .bookingId(1)
+                .itemId(itemId)
+                .status(status)
+                .build();
+    }
+}
@@ -0,0 +1,152 @@
+package ru.practicum.shareit.booking.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.TestFixtures;
+import ru.practicum.shareit.booking.dto.BookingApproval;
+import ru.practicum.shareit.booking.dto.BookingApprovalResult;
+import ru.practicum.shareit.booking.dto.CreateBookingRequest;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Every entry of a batch approval gets its own result, and a failed entry does not roll back
+ * the others.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestFixtures.class)
+class BookingBatchApprovalTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2040, 1, 1, 12, 0);
+
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private TestFixtures fixtures;
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void returnsResultPerEntryInRequestOrder() {
+        User owner = fixtures.user();
+        User booker = fixtures.user();
+        Item item = fixtures.item(owner);
+        Integer first = book(booker, item, 0, 1);
+        Integer second = book(booker, item, 2, 3);
+
+        List<BookingApprovalResult> results = bookingService.approveBookings(owner.getId(), List.of(
+                approval(second, false), approval(Integer.MAX_VALUE, true), approval(first, true)));
+
+        assertEquals(List.of(second, Integer.MAX_VALUE, first), results.stream()
+                .map(BookingApprovalResult::getBookingId)
+                .toList());
+        assertEquals(BookingStatus.REJECTED, results.get(0).getBooking().getStatus());
+        assertNull(results.get(1).getBooking());
+        assertTrue(results.get(1).getErrorMessage().contains("not found"));
+        assertEquals(BookingStatus.APPROVED, results.get(2).getBooking().getStatus());
+        assertEquals(BookingStatus.REJECTED, statusOf(second));
+        assertEquals(BookingStatus.APPROVED, statusOf(first));
+    }
+
+    @Test
+    void rejectsOverlapWithBookingApprovedEarlierInSameBatch() {
+        User owner = fixtures.user();
+        User booker = fixtures.user();
+        Item item = fixtures.item(owner);
+        Integer first = book(booker, item, 10, 12);
+        Integer overlapping = book(booker, item, 11, 13);
+        Integer adjacent = book(booker, item, 12, 14);
+
+        List<BookingApprovalResult> results = bookingService.approveBookings(owner.getId(), List.of(
+                approval(first, true), approval(overlapping, true), approval(adjacent, true)));
+
+        assertNull(results.get(0).getErrorMessage());
+        assertTrue(results.get(1).getErrorMessage().contains("already booked"));
+        assertNull(results.get(2).getErrorMessage());
+        assertEquals(BookingStatus.APPROVED, statusOf(first));
+        assertEquals(BookingStatus.WAITING, statusOf(overlapping));
+        assertEquals(BookingStatus.APPROVED, statusOf(adjacent));
+    }
+
+    @Test
+    void entriesForOtherOwnersItemsFailWithoutAffectingTheRest() {
+        User owner = fixtures.user();
+        User otherOwner = fixtures.user();
+        User booker = fixtures.user();
+        Integer own = book(booker, fixtures.item(owner), 20, 21);
+        Integer foreign = book(booker, fixtures.item(otherOwner), 20, 21);
+
+        List<BookingApprovalResult> results = bookingService.approveBookings(owner.getId(), List.of(
+                approval(foreign, true), approval(own, true)));
+
+        assertEquals("User must be the owner of the item", results.get(0).getErrorMessage());
+        assertNull(results.get(1).getErrorMessage());
+        assertEquals(BookingStatus.WAITING, statusOf(foreign));
+        assertEquals(BookingStatus.APPROVED, statusOf(own));
+    }
+
+    @Test
+    void acceptsAtMostFiveHundredEntries() throws Exception {
+        User owner = fixtures.user();
+
+        mockMvc.perform(patch("/bookings/batch")
+                        .header("X-Sharer-User-Id", owner.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(approvalsJson(500)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(500));
+
+        mockMvc.perform(patch("/bookings/batch")
+                        .header("X-Sharer-User-Id", owner.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(approvalsJson(501)))
+                .andExpect(status().isBadRequest());
+    }
+
+    private BookingStatus statusOf(Integer bookingId) {
+        return bookingRepository.findById(bookingId).orElseThrow().getStatus();
+    }
+
+    private Integer book(User booker, Item item, int startDay, int endDay) {
+        return bookingService.createBooking(booker.getId(), CreateBookingRequest.builder()
+                .itemId(item.getId())
+                .start(DAY.plusDays(startDay))
+                .end(DAY.plusDays(endDay))
+                .build()).getId();
+    }
+
+    private static BookingApproval approval(Integer bookingId, boolean approved) {
+        return BookingApproval.builder()
+                .bookingId(bookingId)
+                .approved(approved)
+                .build();
+    }
+
+    private static String approvalsJson(int count) {
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(i -> "{\"bookingId\":" + (Integer.MAX_VALUE - i) + ",\"approved\":true}")
+                .collect(Collectors.joining(",", "{\"approvals\":[", "]}"));
+    }
+}
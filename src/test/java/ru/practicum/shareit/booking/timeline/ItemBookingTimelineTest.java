@@ -0,0 +1,65 @@
+package ru.practicum.shareit.booking.timeline;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ItemBookingTimelineTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2030, 1, 1, 0, 0);
+    private static final int ITEM_ID = 10;
+
+    private final BookingRepository bookingRepository = mock(BookingRepository.class);
+    private final ItemBookingTimeline timeline = new ItemBookingTimeline(bookingRepository);
+
+    @Test
+    void findsOverlapHiddenBehindLaterApprovedBooking() {
+        load(approved(1, 0, 10), approved(2, 2, 3));
+
+        assertTrue(timeline.hasApprovedOverlap(ITEM_ID, null, DAY.plusDays(5), DAY.plusDays(6)));
+    }
+
+    @Test
+    void ignoresBookingBeingChecked() {
+        load(approved(1, 0, 10), approved(2, 2, 3));
+
+        assertFalse(timeline.hasApprovedOverlap(ITEM_ID, 1, DAY.plusDays(5), DAY.plusDays(6)));
+        assertTrue(timeline.hasApprovedOverlap(ITEM_ID, 2, DAY.plusDays(2), DAY.plusDays(3)));
+    }
+
+    @Test
+    void adjacentBookingsDoNotOverlap() {
+        load(approved(1, 0, 2), approved(2, 4, 6));
+
+        assertFalse(timeline.hasApprovedOverlap(ITEM_ID, null, DAY.plusDays(2), DAY.plusDays(4)));
+        assertTrue(timeline.hasApprovedOverlap(ITEM_ID, null, DAY.plusDays(1), DAY.plusDays(3)));
+    }
+
+    @Test
+    void waitingBookingsAreNotConsidered() {
+        load(new TimelineSlot(1, ITEM_ID, 1, 2, BookingStatus.WAITING, DAY, DAY.plusDays(10)));
+
+        assertFalse(timeline.hasApprovedOverlap(ITEM_ID, null, DAY.plusDays(5), DAY.plusDays(6)));
+    }
+
+    private void load(TimelineSlot... slots) {
+        when(bookingRepository.findTimelineSlots(eq(0), any(Limit.class))).thenReturn(List.of(slots));
+        timeline.afterSingletonsInstantiated();
+    }
+
+    private static TimelineSlot approved(int bookingId, int startDay, int endDay) {
+        return new TimelineSlot(bookingId, ITEM_ID, 1, 2, BookingStatus.APPROVED,
+                DAY.plusDays(startDay), DAY.plusDays(endDay));
+    }
+}
@@ -0,0 +1,108 @@
+package ru.practicum.shareit.datasource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Routes between two in-memory H2 databases, each of which reports its own name.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final String LAG_QUERY = "SELECT lag_seconds FROM node";
+    private static final Duration MAX_LAG = Duration.ofSeconds(5);
+
+    private final JdbcDataSource primaryDatabase = database("primary");
+    private final JdbcDataSource replicaDatabase = database("replica");
+
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        routingDataSource = new ReplicaRoutingDataSource(primaryDatabase,
+                List.of(new ReplicaNode("replica-0", replicaDatabase)));
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.unpin();
+        new JdbcTemplate(replicaDatabase).update("UPDATE node SET lag_seconds = 0");
+    }
+
+    @Test
+    void writeTransactionsGoToPrimary() {
+        assertEquals("primary", writeTransaction.execute(status -> currentNode()));
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplica() {
+        assertEquals("replica", readOnlyTransaction.execute(status -> currentNode()));
+    }
+
+    @Test
+    void pinnedRequestsReadFromPrimary() {
+        ReadYourWrites.pin();
+
+        assertEquals("primary", readOnlyTransaction.execute(status -> currentNode()));
+    }
+
+    @Test
+    void laggingReplicaIsTakenOutOfRotation() {
+        new JdbcTemplate(replicaDatabase).update("UPDATE node SET lag_seconds = 60");
+        routingDataSource.checkReplicas(LAG_QUERY, MAX_LAG);
+
+        assertEquals("primary", readOnlyTransaction.execute(status -> currentNode()));
+
+        new JdbcTemplate(replicaDatabase).update("UPDATE node SET lag_seconds = 1");
+        routingDataSource.checkReplicas(LAG_QUERY, MAX_LAG);
+
+        assertEquals("replica", readOnlyTransaction.execute(status -> currentNode()));
+    }
+
+    @Test
+    void readYourWritesWindowExpires() throws InterruptedException {
+        ReadYourWrites readYourWrites = new ReadYourWrites(Duration.ofMillis(50), 100);
+        readYourWrites.markWritten(1);
+
+        assertTrue(readYourWrites.isWithinWindow(1));
+        assertFalse(readYourWrites.isWithinWindow(2));
+
+        Thread.sleep(100);
+
+        assertFalse(readYourWrites.isWithinWindow(1));
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static JdbcDataSource database(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1");
+        new JdbcTemplate(dataSource).execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20), lag_seconds INT)");
+        new JdbcTemplate(dataSource).execute("MERGE INTO node KEY (name) VALUES ('" + name + "', 0)");
+        return dataSource;
+    }
+}
@@ -0,0 +1,96 @@
+package ru.practicum.shareit.item.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.config.SearchCacheConfig;
+import ru.practicum.shareit.config.SearchCacheProperties;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class ItemSearchIndexTest {
+
+    private final CachedQueries cachedQueries = new CachedQueries();
+    private final Cache<String, List<IndexedItem>> cache = new SearchCacheConfig()
+            .searchResultCache(new SearchCacheProperties(), cachedQueries);
+    private final ItemSearchIndex index = new ItemSearchIndex(mock(ItemRepository.class), cache, cachedQueries);
+
+    @BeforeEach
+    void setUp() {
+        index.index(item(1, "Cordless drill", "18V battery", true));
+        index.index(item(2, "Hand saw", "for hard wood, no battery", true));
+    }
+
+    @Test
+    void updateEvictsOnlyQueriesTheOldOrNewDocumentMatches() {
+        List.of("drill", "cordless", "saw", "wood", "hammer").forEach(index::search);
+
+        index.index(item(1, "Claw hammer", "18V battery", true));
+
+        assertNull(cache.getIfPresent("drill"));
+        assertNull(cache.getIfPresent("cordless"));
+        assertNull(cache.getIfPresent("hammer"));
+        assertNotNull(cache.getIfPresent("saw"));
+        assertNotNull(cache.getIfPresent("wood"));
+        assertEquals(List.of(), ids("drill"));
+        assertEquals(List.of(1), ids("hammer"));
+        assertEquals(List.of(2), ids("saw"));
+    }
+
+    @Test
+    void itemThatBecameUnavailableIsNotServedFromCache() {
+        assertEquals(List.of(1), ids("drill"));
+        assertEquals(List.of(1, 2), ids("battery"));
+
+        index.index(item(1, "Cordless drill", "18V battery", false));
+
+        assertNull(cache.getIfPresent("drill"));
+        assertEquals(List.of(), ids("drill"));
+        assertEquals(List.of(2), ids("battery"));
+    }
+
+    @Test
+    void queriesShorterThanTrigramAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> index.search("dr"));
+        assertEquals(List.of(), index.search("  "));
+    }
+
+    @Test
+    void onlyBestRankedResultsAreReturned() {
+        for (int id = 10; id < 160; id++) {
+            index.index(item(id, "Hammer " + id, "steel", true));
+        }
+        index.index(item(200, "Hammer", "steel", true));
+
+        List<Integer> found = ids("hammer");
+
+        assertEquals(100, found.size());
+        assertEquals(200, found.getFirst());
+        assertEquals(10, found.get(1));
+    }
+
+    private List<Integer> ids(String query) {
+        return index.search(query).stream()
+                .map(IndexedItem::getId)
+                .toList();
+    }
+
+    private static Item item(Integer id, String name, String description, boolean available) {
+        return Item.builder()
+                .id(id)
+                .name(name)
+                .description(description)
+                .available(available)
+                .owner(User.builder().id(1).build())
+                .build();
+    }
+}
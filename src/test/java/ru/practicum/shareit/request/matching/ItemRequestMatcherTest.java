@@ -0,0 +1,68 @@
+package ru.practicum.shareit.request.matching;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import ru.practicum.shareit.config.ItemRequestMatchingProperties;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class ItemRequestMatcherTest {
+
+    private static final int REQUESTER = 1;
+    private static final int OWNER = 2;
+
+    private final ItemRequestMatchingProperties properties = new ItemRequestMatchingProperties();
+    private final OpenRequestIndex openRequestIndex =
+            new OpenRequestIndex(mock(ItemRequestRepository.class), properties);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final ItemRequestMatcher matcher =
+            new ItemRequestMatcher(openRequestIndex, eventPublisher, new SimpleMeterRegistry(), properties);
+
+    @AfterEach
+    void tearDown() {
+        matcher.shutdown();
+    }
+
+    @Test
+    void updatedItemIsMatchedAgainOnlyWhenItsTextChangesOrItBecomesAvailable() {
+        openRequestIndex.add(ItemRequest.builder()
+                .id(10)
+                .description("Need a cordless drill")
+                .requester(User.builder().id(REQUESTER).build())
+                .build());
+
+        matcher.itemSaved(item("Cordless drill", "18V", true));
+        matcher.itemUpdated(item("Cordless drill", "18V", true), "Cordless drill", "18V", true);
+        matcher.itemUpdated(item("Cordless drill", "18V", false), "Cordless drill", "18V", true);
+        matcher.itemUpdated(item("Cordless drill", "18V", true), "Cordless drill", "18V", false);
+        matcher.itemUpdated(item("Cordless drill kit", "18V", true), "Cordless drill", "18V", true);
+
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, timeout(5000).times(3)).publishEvent(events.capture());
+        assertEquals(List.of("Cordless drill", "Cordless drill", "Cordless drill kit"), events.getAllValues().stream()
+                .map(event -> ((ItemRequestMatchedEvent) event).getItemName())
+                .toList());
+    }
+
+    private static Item item(String name, String description, boolean available) {
+        return Item.builder()
+                .id(5)
+                .name(name)
+                .description(description)
+                .available(available)
+                .owner(User.builder().id(OWNER).build())
+                .build();
+    }
+}
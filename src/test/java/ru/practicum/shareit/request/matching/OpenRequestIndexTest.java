@@ -0,0 +1,74 @@
+package ru.practicum.shareit.request.matching;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.config.ItemRequestMatchingProperties;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class OpenRequestIndexTest {
+
+    private static final int REQUESTER = 1;
+    private static final int OWNER = 2;
+
+    private final ItemRequestMatchingProperties properties = new ItemRequestMatchingProperties();
+
+    private OpenRequestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new OpenRequestIndex(mock(ItemRequestRepository.class), properties);
+        index.add(request(1, REQUESTER, "Need a cordless drill"));
+        index.add(request(2, REQUESTER, "Нужна лестница-стремянка"));
+        index.add(request(3, OWNER, "Need a drill"));
+    }
+
+    @Test
+    void itemMatchesRequestsCoveringEnoughKeywords() {
+        assertEquals(List.of(1), matchedIds(OWNER, "Drill, cordless"));
+        assertEquals(List.of(2), matchedIds(OWNER, "Алюминиевая лестница-стремянка"));
+        assertEquals(List.of(), matchedIds(OWNER, "Алюминиевая стремянка"));
+        assertEquals(List.of(), matchedIds(OWNER, "Hammer"));
+    }
+
+    @Test
+    void ownRequestsAreNotMatched() {
+        assertEquals(List.of(1), matchedIds(OWNER, "Need drill"));
+        assertEquals(List.of(3), matchedIds(REQUESTER, "Need drill"));
+    }
+
+    @Test
+    void tooCommonKeywordsAreSkipped() {
+        properties.setMaxPostings(1);
+
+        assertEquals(List.of(), matchedIds(OWNER, "Need drill"));
+    }
+
+    @Test
+    void removedRequestsAreNotMatched() {
+        index.remove(1);
+
+        assertEquals(List.of(), matchedIds(OWNER, "Drill, cordless"));
+    }
+
+    private List<Integer> matchedIds(Integer ownerId, String text) {
+        return index.match(ownerId, text).stream()
+                .map(OpenRequest::id)
+                .sorted()
+                .toList();
+    }
+
+    private static ItemRequest request(int id, int requesterId, String description) {
+        return ItemRequest.builder()
+                .id(id)
+                .description(description)
+                .requester(User.builder().id(requesterId).build())
+                .build();
+    }
+}
@@ -0,0 +1,248 @@
+package ru.practicum.shareit.transfer.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import ru.practicum.shareit.TestFixtures;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.IndexedItem;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
+import ru.practicum.shareit.transfer.ParsedRow;
+import ru.practicum.shareit.transfer.RowReader;
+import ru.practicum.shareit.transfer.TransferCodec;
+import ru.practicum.shareit.transfer.TransferFormat;
+import ru.practicum.shareit.transfer.dto.ImportError;
+import ru.practicum.shareit.transfer.dto.ImportReport;
+import ru.practicum.shareit.transfer.dto.ItemTransferRow;
+import ru.practicum.shareit.user.model.User;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Chunks are two rows long here, so every import spans several chunks and transactions,
+ * and the chunk fallback and the error cap are reached with a handful of rows.
+ */
+@SpringBootTest
+@Import(TestFixtures.class)
+@TestPropertySource(properties = {
+        "shareit.transfer.chunk-size=2",
+        "shareit.transfer.max-reported-errors=3"
+})
+class TransferServiceImplTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2030, 1, 1, 12, 0);
+
+    @Autowired
+    private TransferService transferService;
+    @Autowired
+    private TransferCodec codec;
+    @Autowired
+    private TestFixtures fixtures;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private ItemSearchIndex itemSearchIndex;
+
+    @Test
+    void csvImportSkipsInvalidRowsAndKeepsValidOnes() {
+        User owner = fixtures.user();
+
+        ImportReport report = transferService.importItems(owner.getId(), TransferFormat.CSV, input(
+                "name,description,available\n" +
+                "drill,cordless,true\n" +
+                "," + "no name,true\n" +
+                "saw,hand saw,maybe\n" +
+                "ladder,three steps,false\n" +
+                "hammer,claw,true\n"));
+
+        assertEquals(3, report.getImported());
+        assertEquals(2, report.getFailed());
+        assertEquals(List.of(3L, 4L), lines(report));
+        assertEquals(List.of("drill", "ladder", "hammer"), itemNames(owner));
+    }
+
+    @Test
+    void ndjsonImportSkipsInvalidRowsAndKeepsValidOnes() {
+        User owner = fixtures.user();
+
+        ImportReport report = transferService.importItems(owner.getId(), TransferFormat.NDJSON, input(
+                "{\"name\":\"drill\",\"description\":\"cordless\",\"available\":true}\n" +
+                "{\"name\":\"broken\",\n" +
+                "\n" +
+                "{\"name\":\"\",\"description\":\"blank name\",\"available\":true}\n" +
+                "{\"name\":\"saw\",\"description\":\"hand saw\",\"available\":true}\n"));
+
+        assertEquals(2, report.getImported());
+        assertEquals(2, report.getFailed());
+        assertEquals(List.of(2L, 4L), lines(report));
+        assertEquals(List.of("drill", "saw"), itemNames(owner));
+    }
+
+    @Test
+    void rejectedChunkIsRetriedRowByRow() {
+        User owner = fixtures.user();
+
+        ImportReport report = transferService.importItems(owner.getId(), TransferFormat.NDJSON, input(
+                "{\"name\":\"drill\",\"description\":\"cordless\",\"available\":true}\n" +
+                "{\"name\":\"" + "x".repeat(300) + "\",\"description\":\"too long\",\"available\":true}\n" +
+                "{\"name\":\"saw\",\"description\":\"hand saw\",\"available\":true}\n"));
+
+        assertEquals(2, report.getImported());
+        assertEquals(1, report.getFailed());
+        assertEquals(List.of(2L), lines(report));
+        assertEquals(List.of("drill", "saw"), itemNames(owner));
+    }
+
+    @Test
+    void reportedErrorsAreCappedButAllFailuresAreCounted() {
+        User owner = fixtures.user();
+
+        ImportReport report = transferService.importItems(owner.getId(), TransferFormat.NDJSON, input(
+                "{\"name\":\"\"}\n".repeat(5)));
+
+        assertEquals(0, report.getImported());
+        assertEquals(5, report.getFailed());
+        assertEquals(List.of(1L, 2L, 3L), lines(report));
+    }
+
+    @Test
+    void importedItemsAreIndexedUnderTheirGeneratedIds() {
+        User owner = fixtures.user();
+        String tag = UUID.randomUUID().toString().substring(0, 8);
+
+        transferService.importItems(owner.getId(), TransferFormat.NDJSON, input(
+                "{\"name\":\"drill " + tag + "\",\"description\":\"cordless\",\"available\":true}\n" +
+                "{\"name\":\"saw " + tag + "\",\"description\":\"hand saw\",\"available\":true}\n" +
+                "{\"name\":\"ladder " + tag + "\",\"description\":\"three steps\",\"available\":true}\n"));
+
+        List<IndexedItem> found = itemSearchIndex.search(tag);
+        assertEquals(3, found.size());
+        for (IndexedItem document : found) {
+            assertEquals(document.getName(), itemRepository.findById(document.getId()).orElseThrow().getName());
+        }
+    }
+
+    @Test
+    void approvedBookingsThatOverlapAreRejected() {
+        User owner = fixtures.user();
+        User booker = fixtures.user();
+        Integer itemId = importItem(owner);
+
+        ImportReport first = transferService.importBookings(owner.getId(), TransferFormat.CSV, input(
+                "itemId,bookerId,start,end,status\n" +
+                bookingCsv(itemId, booker, 0, 2, "APPROVED") +
+                bookingCsv(itemId, booker, 1, 3, "APPROVED") +
+                bookingCsv(itemId, booker, 1, 3, "WAITING") +
+                bookingCsv(itemId, owner, 5, 6, "APPROVED")));
+
+        assertEquals(2, first.getImported());
+        assertEquals(List.of(3L, 5L), lines(first));
+
+        ImportReport second = transferService.importBookings(owner.getId(), TransferFormat.CSV, input(
+                "itemId,bookerId,start,end,status\n" +
+                bookingCsv(itemId, booker, 1, 2, "APPROVED") +
+                bookingCsv(itemId, booker, 2, 4, "APPROVED")));
+
+        assertEquals(1, second.getImported());
+        assertEquals(List.of(2L), lines(second));
+        assertTrue(second.getErrors().getFirst().getMessage().contains("already booked"));
+        assertEquals(3, bookingRepository.findAll().stream()
+                .filter(booking -> booking.getItem().getId().equals(itemId))
+                .count());
+    }
+
+    @Test
+    void exportedItemsImportBackUnchanged() throws IOException {
+        User owner = fixtures.user();
+        User copy = fixtures.user();
+        transferService.importItems(owner.getId(), TransferFormat.NDJSON, input(
+                "{\"name\":\"drill\",\"description\":\"cordless, 18V\",\"available\":true}\n" +
+                "{\"name\":\"saw\",\"description\":\"hand \\\"saw\\\"\",\"available\":false}\n" +
+                "{\"name\":\"ladder\",\"description\":\"three steps\",\"available\":true}\n"));
+
+        for (TransferFormat format : TransferFormat.values()) {
+            byte[] exported = export(owner, format);
+            List<ItemTransferRow> rows = read(format, exported);
+            assertEquals(3, rows.size());
+
+            ImportReport report = transferService.importItems(copy.getId(), format, new ByteArrayInputStream(exported));
+            assertEquals(3, report.getImported());
+            assertEquals(0, report.getFailed());
+        }
+
+        List<ItemTransferRow> original = withoutIds(read(TransferFormat.NDJSON, export(owner, TransferFormat.NDJSON)));
+        List<ItemTransferRow> copied = withoutIds(read(TransferFormat.NDJSON, export(copy, TransferFormat.NDJSON)));
+        assertEquals(original, copied.subList(0, 3));
+        assertEquals(original, copied.subList(3, 6));
+    }
+
+    private Integer importItem(User owner) {
+        transferService.importItems(owner.getId(), TransferFormat.NDJSON, input(
+                "{\"name\":\"item\",\"description\":\"for bookings\",\"available\":true}\n"));
+        return itemRepository.findAll().stream()
+                .filter(item -> item.getOwner().getId().equals(owner.getId()))
+                .map(Item::getId)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private byte[] export(User owner, TransferFormat format) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        transferService.exportItems(owner.getId(), format).writeTo(output);
+        return output.toByteArray();
+    }
+
+    private List<ItemTransferRow> read(TransferFormat format, byte[] exported) {
+        RowReader<ItemTransferRow> reader = codec.reader(format, ItemTransferRow.class,
+                new ByteArrayInputStream(exported));
+        List<ItemTransferRow> rows = new ArrayList<>();
+        for (ParsedRow<ItemTransferRow> row = reader.next(); row != null; row = reader.next()) {
+            rows.add(row.value());
+        }
+        return rows;
+    }
+
+    private List<String> itemNames(User owner) {
+        return itemRepository.findAll().stream()
+                .filter(item -> item.getOwner().getId().equals(owner.getId()))
+                .sorted((first, second) -> first.getId().compareTo(second.getId()))
+                .map(Item::getName)
+                .toList();
+    }
+
+    private static List<ItemTransferRow> withoutIds(List<ItemTransferRow> rows) {
+        rows.forEach(row -> row.setId(null));
+        return rows;
+    }
+
+    private static String bookingCsv(Integer itemId, User booker, int startDay, int endDay, String status) {
+        return itemId + "," + booker.getId() + "," + DAY.plusDays(startDay) + "," + DAY.plusDays(endDay) + ","
+                + status + "\n";
+    }
+
+    private static List<Long> lines(ImportReport report) {
+        return report.getErrors().stream()
+                .map(ImportError::getLine)
+                .toList();
+    }
+
+    private static ByteArrayInputStream input(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,97 @@
+package ru.practicum.shareit.user.registry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import ru.practicum.shareit.config.EmailRegistryProperties;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmailRegistryTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final EmailRegistryProperties properties = new EmailRegistryProperties();
+
+    private EmailRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        properties.setExpectedInsertions(2);
+        when(userRepository.count()).thenReturn(1L, 3L);
+        when(userRepository.findEmailsGreaterThan(eq(""), any(Limit.class)))
+                .thenReturn(List.of("a@a.ru"), List.of("a@a.ru", "b@a.ru", "c@a.ru"));
+        when(userRepository.existsByEmail("a@a.ru")).thenReturn(true);
+
+        registry = new EmailRegistry(userRepository, properties, new SimpleMeterRegistry());
+        registry.afterSingletonsInstantiated();
+    }
+
+    @Test
+    void unknownEmailIsFreeWithoutQuery() {
+        assertFalse(registry.isTaken("free@a.ru"));
+
+        verify(userRepository, never()).existsByEmail(anyString());
+    }
+
+    @Test
+    void possibleHitIsConfirmedByRepository() {
+        assertTrue(registry.isTaken("a@a.ru"));
+
+        verify(userRepository).existsByEmail("a@a.ru");
+    }
+
+    @Test
+    void overflowRebuildKeepsRegisteredEmails() {
+        registry.register("b@a.ru");
+        registry.register("c@a.ru");
+
+        verify(userRepository, timeout(1000).times(2)).findEmailsGreaterThan(eq(""), any(Limit.class));
+        registry.register("d@a.ru");
+
+        for (String email : List.of("a@a.ru", "b@a.ru", "c@a.ru", "d@a.ru")) {
+            registry.isTaken(email);
+            verify(userRepository, times(1)).existsByEmail(email);
+        }
+    }
+
+    @Test
+    void failedRebuildIsRetriedByNextRegistration() throws InterruptedException {
+        when(userRepository.count()).thenThrow(new IllegalStateException("connection lost")).thenReturn(3L);
+
+        registry.register("b@a.ru");
+        registry.register("c@a.ru");
+        verify(userRepository, timeout(1000).times(2)).count();
+
+        for (int i = 0; i < 100 && countCalls() < 3; i++) {
+            registry.register("d" + i + "@a.ru");
+            Thread.sleep(10);
+        }
+
+        verify(userRepository, timeout(1000).times(2)).findEmailsGreaterThan(eq(""), any(Limit.class));
+        for (String email : List.of("a@a.ru", "b@a.ru", "c@a.ru")) {
+            registry.isTaken(email);
+            verify(userRepository, times(1)).existsByEmail(email);
+        }
+    }
+
+    private long countCalls() {
+        return mockingDetails(userRepository).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("count"))
+                .count();
+    }
+}
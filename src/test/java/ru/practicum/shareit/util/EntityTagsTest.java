@@ -0,0 +1,39 @@
+package ru.practicum.shareit.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EntityTagsTest {
+
+    @Test
+    void absentOrWildcardIfMatchMeansUnconditional() {
+        assertNull(EntityTags.versions(null));
+        assertNull(EntityTags.versions(" "));
+        assertNull(EntityTags.versions(" * "));
+    }
+
+    @Test
+    void parsesStrongAndWeakTagLists() {
+        assertEquals(Set.of(3L), EntityTags.versions(EntityTags.of(3)));
+        assertEquals(Set.of(4L), EntityTags.versions(EntityTags.of(4, "representation")));
+        assertEquals(Set.of(1L, 2L, 7L), EntityTags.versions("\"1\", W/\"2.1f\" ,\"7\""));
+    }
+
+    @Test
+    void skipsForeignTags() {
+        assertEquals(Set.of(5L), EntityTags.versions("\"abc\", \"5\", W/\"x.1\", \"1.zz\""));
+        assertTrue(EntityTags.versions("\"abc\"").isEmpty());
+    }
+
+    @Test
+    void weakTagChangesWithRepresentation() {
+        assertEquals(EntityTags.of(1, "same"), EntityTags.of(1, "same"));
+        assertNotEquals(EntityTags.of(1, "before"), EntityTags.of(1, "after"));
+    }
+}
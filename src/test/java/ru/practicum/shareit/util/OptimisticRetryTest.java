@@ -0,0 +1,58 @@
+package ru.practicum.shareit.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import ru.practicum.shareit.exception.ConflictException;
+import ru.practicum.shareit.exception.PreconditionFailedException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class OptimisticRetryTest {
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final OptimisticRetry optimisticRetry = new OptimisticRetry(transactionManager);
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    @Test
+    void retriesLostRaceInFreshTransaction() {
+        String result = optimisticRetry.execute(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException("Item", 1);
+            }
+            return "saved";
+        });
+
+        assertEquals("saved", result);
+        assertEquals(3, attempts.get());
+        verify(transactionManager, times(3)).getTransaction(any());
+        verify(transactionManager, times(2)).rollback(any());
+    }
+
+    @Test
+    void givesUpWithConflictAfterMaxAttempts() {
+        assertThrows(ConflictException.class, () -> optimisticRetry.execute(() -> {
+            attempts.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException("Item", 1);
+        }));
+
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void failedPreconditionIsNotRetried() {
+        assertThrows(PreconditionFailedException.class, () -> optimisticRetry.execute(() -> {
+            attempts.incrementAndGet();
+            throw new PreconditionFailedException("Item has been modified since it was read");
+        }));
+
+        assertEquals(1, attempts.get());
+    }
+}
@@ -0,0 +1,72 @@
+package ru.practicum.shareit.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import ru.practicum.shareit.config.DatabaseBulkheadProperties;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DatabaseBulkheadFilterTest {
+
+    private static final Duration SLOW = Duration.ofMillis(200);
+    private static final Duration FAST = Duration.ofMillis(1);
+
+    private DatabaseBulkheadFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        DatabaseBulkheadProperties properties = new DatabaseBulkheadProperties();
+        properties.setMaxConcurrentRequests(8);
+        properties.setMinConcurrentRequests(2);
+        properties.setAcquireTimeout(Duration.ZERO);
+        properties.setTargetConnectionWait(Duration.ofMillis(50));
+        properties.setDecreaseFactor(0.5);
+        filter = new DatabaseBulkheadFilter(properties, new ObjectMapper());
+    }
+
+    @Test
+    void limitIsCutWhileConnectionWaitIsAboveTarget() throws Exception {
+        filter.adjustLimit(SLOW);
+        assertEquals(4, filter.limit());
+        filter.adjustLimit(SLOW);
+        filter.adjustLimit(SLOW);
+        assertEquals(2, filter.limit());
+
+        assertEquals(503, statusWhileHolding(2));
+    }
+
+    @Test
+    void limitGrowsByOneOnlyWhenBulkheadWasFull() throws Exception {
+        filter.adjustLimit(SLOW);
+        filter.adjustLimit(FAST);
+        assertEquals(4, filter.limit());
+
+        assertEquals(503, statusWhileHolding(4));
+        filter.adjustLimit(FAST);
+        assertEquals(5, filter.limit());
+        assertEquals(200, statusWhileHolding(4));
+    }
+
+    /**
+     * Status of a request sent while {@code held} earlier requests are still inside the bulkhead.
+     */
+    private int statusWhileHolding(int held) throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        if (held == 0) {
+            filter.doFilter(new MockHttpServletRequest("GET", "/bookings"), response, new MockFilterChain());
+            return response.getStatus();
+        }
+        int[] status = new int[1];
+        filter.doFilter(new MockHttpServletRequest("GET", "/bookings"), response,
+                (request, ignored) -> status[0] = statusWhileHolding(held - 1));
+        return status[0];
+    }
+}
@@ -0,0 +1,78 @@
+package ru.practicum.shareit.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import ru.practicum.shareit.config.RateLimitProperties;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RateLimitFilterTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setCapacity(10);
+        properties.setRefillPerSecond(2);
+        properties.setCosts(Map.of("GET /bookings/owner", 5));
+        filter = new RateLimitFilter(properties, new ObjectMapper(), new SimpleMeterRegistry(), nanos::get);
+    }
+
+    @Test
+    void burstAboveCapacityIsRejectedUntilTokensRefill() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            assertEquals(200, send("GET", "/items/1", "1").getStatus());
+        }
+
+        MockHttpServletResponse rejected = send("GET", "/items/1", "1");
+        assertEquals(429, rejected.getStatus());
+        assertEquals("1", rejected.getHeader("Retry-After"));
+
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertEquals(200, send("GET", "/items/1", "1").getStatus());
+    }
+
+    @Test
+    void expensiveEndpointTakesMoreTokens() throws Exception {
+        assertEquals(200, send("GET", "/bookings/owner", "1").getStatus());
+        assertEquals(200, send("GET", "/bookings/owner", "1").getStatus());
+
+        MockHttpServletResponse rejected = send("GET", "/bookings/owner", "1");
+        assertEquals(429, rejected.getStatus());
+        assertEquals("3", rejected.getHeader("Retry-After"));
+        assertEquals(200, send("POST", "/bookings/owner", "2").getStatus());
+    }
+
+    @Test
+    void callersHaveSeparateBucketsAndAnonymousRequestsAreNotLimited() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            send("GET", "/items", "1");
+        }
+
+        assertEquals(429, send("GET", "/items", "1").getStatus());
+        assertEquals(200, send("GET", "/items", "2").getStatus());
+        assertEquals(200, send("GET", "/items", null).getStatus());
+    }
+
+    private MockHttpServletResponse send(String method, String path, String userId) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        if (userId != null) {
+            request.addHeader("X-Sharer-User-Id", userId);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}